@@ -0,0 +1,203 @@
+package benchmark;
+
+import controller.ContentController;
+import controller.ReportController;
+import controller.SortField;
+import controller.UserController;
+import model.*;
+import view.ContentPanel;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// Ejecuta la suite de benchmarks del CMS.
+// Uso: java -Xmx5g -cp out benchmark.BenchmarkRunner [filtro] [archivo-resultados]
+// (el catálogo de un millón de contenidos del grupo panel ocupa unos 3,3 GB con todos los índices)
+// El filtro (opcional) selecciona los grupos cuyo nombre lo contiene:
+// content, report, article, image, panel, ids, users.
+// Propiedades: -Dbench.sizes=1000,100000 (catálogo de controladores),
+// -Dbench.panelSizes=1000,100000,1000000, -Dbench.threads=4, -Dbench.quick=true.
+// Los mismos grupos (salvo panel) están como benchmarks JMH en el módulo Maven jmh/:
+// mvn -f jmh/pom.xml package && java -jar jmh/target/benchmarks.jar
+public class BenchmarkRunner {
+    private static final long SEED = 42L;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        String filter = args.length > 0 ? args[0] : "";
+        boolean quick = Boolean.getBoolean("bench.quick");
+        Harness harness = quick ? new Harness(1, 2, 200) : new Harness(3, 5, 500);
+        int[] sizes = parseSizes(System.getProperty("bench.sizes", "1000,100000"));
+        int[] panelSizes = parseSizes(System.getProperty("bench.panelSizes", "1000,100000,1000000"));
+        int threads = Integer.getInteger("bench.threads", 4);
+
+        if (selected(filter, "content")) {
+            for (int size : sizes) {
+                contentControllerBenchmarks(harness, size);
+            }
+        }
+        if (selected(filter, "report")) {
+            for (int size : sizes) {
+                reportControllerBenchmarks(harness, size);
+            }
+        }
+        if (selected(filter, "article")) {
+            articleBenchmarks(harness);
+        }
+        if (selected(filter, "image")) {
+            imageBenchmarks(harness);
+        }
+        if (selected(filter, "panel")) {
+            for (int size : panelSizes) {
+                contentPanelBenchmarks(harness, size);
+            }
+        }
+        if (selected(filter, "ids")) {
+            idBenchmarks(harness, threads);
+        }
+        if (selected(filter, "users")) {
+            userBenchmarks(harness, threads);
+        }
+
+        if (args.length > 1) {
+            writeResults(Paths.get(args[1]), harness.getResults());
+        }
+    }
+
+    // CRUD, búsqueda y filtros de ContentController
+    private static void contentControllerBenchmarks(Harness harness, int size) throws Exception {
+        CatalogFixture fixture = new CatalogFixture(size, SEED);
+        ContentController controller = fixture.getController();
+        List<Content> contents = fixture.getContents();
+        Random random = new Random(SEED);
+        String prefix = "ContentController(" + size + ").";
+
+        harness.measure(prefix + "getById", () ->
+                controller.getById(contents.get(random.nextInt(contents.size())).getId()));
+        harness.measure(prefix + "searchByKeyword", () -> controller.searchByKeyword("cálculo"));
+        harness.measure(prefix + "suggest", () -> controller.suggest("cál", 8));
+        harness.measure(prefix + "searchFuzzy", () -> controller.searchFuzzy("calclo diferencal", 2));
+        harness.measure(prefix + "filterByCategory", () ->
+                controller.filterByCategory(fixture.getCategories().get(random.nextInt(fixture.getCategories().size()))));
+        harness.measure(prefix + "filterByCategoryTree", () ->
+                controller.filterByCategoryTree(fixture.getCategories().get(0)));
+        harness.measure(prefix + "filterByType", () -> controller.filterByType("Video"));
+        harness.measure(prefix + "filterByTag", () -> controller.filterByTag(fixture.getTags().get(3)));
+        harness.measure(prefix + "getAllContent", controller::getAllContent);
+        harness.measure(prefix + "getPage(TITLE, 50)", () -> controller.getPage(SortField.TITLE, true, null, 50));
+        harness.measure(prefix + "getStaleDrafts(90)", () -> controller.getStaleDrafts(90));
+        harness.measure(prefix + "edit", () -> {
+            Content content = contents.get(random.nextInt(contents.size()));
+            controller.edit(content);
+            return content;
+        });
+        int[] next = {size};
+        harness.measureLong(prefix + "create+delete", () -> {
+            Content content = fixture.newContent(next[0]++);
+            controller.create(content);
+            return controller.delete(content.getId()) ? 1 : 0;
+        });
+    }
+
+    // Agregaciones de ReportController
+    private static void reportControllerBenchmarks(Harness harness, int size) throws Exception {
+        CatalogFixture fixture = new CatalogFixture(size, SEED);
+        ReportController reports = new ReportController(fixture.getController());
+        String prefix = "ReportController(" + size + ").";
+
+        harness.measure(prefix + "getStatistics", reports::getStatistics);
+        harness.measure(prefix + "getContentsByCategory", reports::getContentsByCategory);
+        harness.measure(prefix + "getContentsByAuthor", reports::getContentsByAuthor);
+        harness.measure(prefix + "getMostRecentContent(10)", () -> reports.getMostRecentContent(10));
+        harness.measure(prefix + "generateContentReport", reports::generateContentReport);
+        harness.measure(prefix + "estimateDistinctAuthors", reports::estimateDistinctAuthors);
+        harness.measure(prefix + "estimateWordCountQuantiles", () -> reports.estimateWordCountQuantiles(0.5, 0.9, 0.99));
+    }
+
+    // Conteo de palabras de Article (se calcula al crear y al cambiar el texto)
+    private static void articleBenchmarks(Harness harness) throws Exception {
+        Category category = new Category("Bench", "Bench");
+        Random random = new Random(SEED);
+        for (int words : new int[]{50, 1000, 20000}) {
+            String text = CatalogFixture.text(random, words);
+            Article article = new Article("Bench", "Bench", category, text);
+            harness.measureLong("Article.setContent(" + words + " palabras)", () -> {
+                article.setContent(text);
+                return article.getWordCount();
+            });
+        }
+    }
+
+    // Tamaño estimado de Image
+    private static void imageBenchmarks(Harness harness) throws Exception {
+        Image image = new Image("Bench", "Bench", new Category("Bench", "Bench"),
+                "https://example.com/bench.png", "1920x1080", "PNG");
+        harness.measureLong("Image.getFileSize", image::getFileSize);
+        harness.measure("Image.getFormattedFileSize", image::getFormattedFileSize);
+    }
+
+    // Carga de la tabla de ContentPanel
+    private static void contentPanelBenchmarks(Harness harness, int size) throws Exception {
+        CatalogFixture fixture = new CatalogFixture(size, SEED);
+        ContentPanel panel = new ContentPanel(fixture.getController(),
+                new Administrator("bench", "bench", "bench@ega.com"), fixture.getCategories());
+        harness.measure("ContentPanel.loadContentTable(" + size + ")", () -> {
+            panel.loadContentTable();
+            return panel;
+        });
+    }
+
+    // Generación de ids: TimeOrderedIdGenerator frente a UUID.randomUUID
+    private static void idBenchmarks(Harness harness, int threads) throws Exception {
+        IdGenerator timeOrdered = new TimeOrderedIdGenerator();
+        harness.measure("TimeOrderedIdGenerator.nextId", timeOrdered::nextId);
+        harness.measure("UUID.randomUUID", () -> UUID.randomUUID().toString());
+        harness.measureThroughput("TimeOrderedIdGenerator.nextId", threads, timeOrdered::nextId);
+        harness.measureThroughput("UUID.randomUUID", threads, () -> UUID.randomUUID().toString());
+    }
+
+    // Inicio de sesión y búsqueda de usuarios bajo concurrencia
+    private static void userBenchmarks(Harness harness, int threads) throws Exception {
+        UserController users = new UserController();
+        for (int i = 0; i < 10_000; i++) {
+            users.registerUser(new Editor("editor" + i, "clave" + i, "editor" + i + "@ega.com"));
+        }
+        Random random = new Random(SEED);
+        harness.measure("UserController.findUserByUsername(10k)", () ->
+                users.findUserByUsername("editor" + random.nextInt(10_000)));
+        harness.measureThroughput("UserController.openSession+closeSession", threads, () -> {
+            String token = users.openSession("admin", "admin123");
+            return users.closeSession(token);
+        });
+        harness.measureThroughput("UserController.login", threads, () -> users.login("editor", "editor123"));
+    }
+
+    private static boolean selected(String filter, String group) {
+        return filter.isEmpty() || group.contains(filter) || filter.contains(group);
+    }
+
+    private static int[] parseSizes(String value) {
+        String[] parts = value.split(",");
+        int[] sizes = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            sizes[i] = Integer.parseInt(parts[i].trim());
+        }
+        return sizes;
+    }
+
+    private static void writeResults(Path file, List<String> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# java " + System.getProperty("java.version") + " | "
+                + Runtime.getRuntime().availableProcessors() + " CPU | "
+                + System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        lines.addAll(results);
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,36 @@
+package benchmark;
+
+// Consume los resultados de los benchmarks para que el JIT no elimine el trabajo medido.
+public final class Blackhole {
+    private static volatile int sink;
+
+    private Blackhole() {
+    }
+
+    // Consume un valor
+    public static void consume(Object value) {
+        if (value != null) {
+            sink ^= System.identityHashCode(value);
+        }
+    }
+
+    // Consume un valor primitivo (las sobrecargas evitan convertirlo a objeto)
+    public static void consume(long value) {
+        sink ^= (int) (value ^ (value >>> 32));
+    }
+
+    // Consume un valor primitivo
+    public static void consume(int value) {
+        sink ^= value;
+    }
+
+    // Consume un valor primitivo
+    public static void consume(double value) {
+        consume(Double.doubleToRawLongBits(value));
+    }
+
+    // Consume un valor primitivo
+    public static void consume(boolean value) {
+        sink ^= value ? 1 : 0;
+    }
+}
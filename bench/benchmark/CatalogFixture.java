@@ -0,0 +1,66 @@
+package benchmark;
+
+import controller.CatalogGenerator;
+import controller.ContentController;
+import model.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+// Catálogo sintético y determinista para los benchmarks, construido con CatalogGenerator.
+// Mezcla 60% artículos, 25% videos y 15% imágenes en 5 raíces con 4 subcategorías cada una.
+public class CatalogFixture {
+    private static final String[] WORDS = {
+            "introducción", "java", "cálculo", "diferencial", "física", "diseño", "música",
+            "teoría", "práctica", "avanzado", "básico", "tutorial", "guía", "análisis",
+            "programación", "objetos", "polimorfismo", "herencia", "álgebra", "armonía"
+    };
+
+    private final CatalogGenerator generator;
+    private final ContentController controller;
+    private final List<Content> contents;
+
+    // Construye un catálogo con size contenidos a partir de una semilla
+    public CatalogFixture(int size, long seed) {
+        CatalogGenerator.Config config = new CatalogGenerator.Config()
+                .setSize(size)
+                .setSeed(seed)
+                .setTypeMix(60, 25)
+                .setRootCategories(5)
+                .setCategoryDepth(2)
+                .setCategoryBranching(4)
+                .setTagCount(200)
+                .setAuthorCount(500)
+                // Textos cortos para que el catálogo de un millón quepa en memoria
+                .setArticleLength(30, 0.6, 400);
+        this.generator = new CatalogGenerator(config, Collections.emptyList());
+        this.controller = new ContentController();
+        controller.setCurrentUser(new Administrator("bench", "bench", "bench@ega.com"));
+        this.contents = generator.generate(controller);
+    }
+
+    // Crea un contenido nuevo (no lo agrega al controlador); depende solo de la semilla y del índice
+    public Content newContent(int index) {
+        return generator.createContent(index);
+    }
+
+    // Genera un texto de words palabras
+    public static String text(Random random, int words) {
+        StringBuilder sb = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    // Getters
+    public ContentController getController() { return controller; }
+    public List<Category> getCategories() { return generator.getCategories(); }
+    public List<Content> getContents() { return contents; }
+    public List<Tag> getTags() { return generator.getTags(); }
+    public List<String> getAuthors() { return generator.getAuthors(); }
+}
@@ -0,0 +1,152 @@
+package benchmark;
+
+import controller.ContentController;
+import model.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Prueba de estrés de los contadores de categorías y etiquetas (LongAdder) con varios hilos.
+// Cada escenario compara el contador con la cantidad exacta esperada y termina con error
+// (AssertionError) ante la primera diferencia.
+//
+// Uso: java -cp out benchmark.CounterStress
+// Propiedades: -Dstress.threads=8 -Dstress.operations=200000 -Dstress.seed=42
+public class CounterStress {
+    private static final int CATEGORIES = 6;
+    private static final int TAGS = 12;
+
+    public static void main(String[] args) throws Exception {
+        int threads = Integer.getInteger("stress.threads", 8);
+        int operations = Integer.getInteger("stress.operations", 200_000);
+        long seed = Long.getLong("stress.seed", 42L);
+
+        rawCounters(threads, operations);
+        controllerCounters(threads, operations / 20, seed);
+        System.out.println("CounterStress: OK");
+    }
+
+    // Altas y bajas directas en los contadores (attach/detach, sin controlador): el total debe ser exacto
+    private static void rawCounters(int threads, int operations) throws Exception {
+        Category category = new Category("stress-raw", "Estrés");
+        Tag tag = Tag.of("stress-raw-" + System.nanoTime());
+        runAll(threads, worker -> {
+            Article article = new Article("Estrés " + worker, "Autor " + worker, category, "texto de prueba");
+            article.addTag(tag);
+            for (int i = 0; i < operations; i++) {
+                // Los hilos pares deshacen cada alta, los impares conservan una de cada dos
+                if (worker % 2 == 0 || i % 2 == 0) {
+                    article.attach();
+                    article.detach();
+                } else {
+                    article.copy().attach();
+                }
+            }
+            return null;
+        });
+        long kept = (long) (threads / 2) * (operations / 2);
+        check(category.getContentCountLong() == kept,
+                "categoría: esperado " + kept + ", obtenido " + category.getContentCountLong());
+        check(tag.getUsageCountLong() == kept,
+                "etiqueta: esperado " + kept + ", obtenido " + tag.getUsageCountLong());
+        System.out.println("contadores directos: " + kept + " en categoría y etiqueta");
+    }
+
+    // Altas y bajas concurrentes en el controlador: cada contador debe coincidir con el catálogo final
+    private static void controllerCounters(int threads, int operations, long seed) throws Exception {
+        ContentController controller = new ContentController();
+        controller.setCurrentUser(new Administrator("stress", "stress", "stress@ega.com"));
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories.add(new Category("stress-" + i, "Estrés"));
+        }
+        String prefix = "stress-" + System.nanoTime() + "-";
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < TAGS; i++) {
+            tags.add(Tag.of(prefix + i));
+        }
+
+        runAll(threads, worker -> {
+            SplittableRandom random = new SplittableRandom(seed + worker);
+            List<String> mine = new ArrayList<>();
+            for (int i = 0; i < operations; i++) {
+                // Dos altas por cada baja; las bajas a veces repiten un id ya eliminado
+                if (mine.isEmpty() || random.nextInt(3) != 0) {
+                    Article article = new Article("Estrés " + worker + "." + i, "Autor " + worker,
+                            categories.get(random.nextInt(categories.size())), "texto de prueba");
+                    int tagCount = random.nextInt(4);
+                    for (int t = 0; t < tagCount; t++) {
+                        article.addTag(tags.get(random.nextInt(tags.size())));
+                    }
+                    controller.create(article);
+                    mine.add(article.getId());
+                } else {
+                    int index = random.nextInt(mine.size());
+                    controller.delete(mine.get(index));
+                    if (random.nextInt(4) != 0) {
+                        mine.set(index, mine.get(mine.size() - 1));
+                        mine.remove(mine.size() - 1);
+                    }
+                }
+            }
+            return null;
+        });
+
+        Map<Category, Long> expectedByCategory = new HashMap<>();
+        Map<Tag, Long> expectedByTag = new HashMap<>();
+        List<Content> contents = controller.getAllContent();
+        for (Content content : contents) {
+            expectedByCategory.merge(content.getCategory(), 1L, Long::sum);
+            for (Tag tag : content.getTags()) {
+                expectedByTag.merge(tag, 1L, Long::sum);
+            }
+        }
+        for (Category category : categories) {
+            long expected = expectedByCategory.getOrDefault(category, 0L);
+            check(category.getContentCountLong() == expected, category.getName() + ": esperado "
+                    + expected + ", obtenido " + category.getContentCountLong());
+        }
+        for (Tag tag : tags) {
+            long expected = expectedByTag.getOrDefault(tag, 0L);
+            check(tag.getUsageCountLong() == expected, tag + ": esperado " + expected
+                    + ", obtenido " + tag.getUsageCountLong());
+        }
+        System.out.println("controlador: " + contents.size() + " contenidos en " + CATEGORIES
+                + " categorías y " + TAGS + " etiquetas");
+    }
+
+    // Tarea de un hilo; recibe su número
+    private interface Worker {
+        Void run(int worker) throws Exception;
+    }
+
+    // Ejecuta la tarea en varios hilos a la vez y propaga el primer error
+    private static void runAll(int threads, Worker worker) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int number = t;
+                tasks.add(() -> worker.run(number));
+            }
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
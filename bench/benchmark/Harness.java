@@ -0,0 +1,157 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// Arnés mínimo de microbenchmarks: calentamiento, iteraciones de medición por tiempo
+// y reporte de ns/op (o ops/s para pruebas concurrentes) con su desviación estándar.
+public final class Harness {
+
+    // Operación a medir; el valor devuelto se consume en el Blackhole
+    public interface Op {
+        Object run() throws Exception;
+    }
+
+    // Operación que devuelve un primitivo: se consume sin convertirlo a objeto
+    public interface LongOp {
+        long run() throws Exception;
+    }
+
+    private final int warmupIterations;
+    private final int measureIterations;
+    private final long iterationMillis;
+    private final List<String> results;
+
+    // Constructor del arnés
+    public Harness(int warmupIterations, int measureIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measureIterations = measureIterations;
+        this.iterationMillis = iterationMillis;
+        this.results = new ArrayList<>();
+    }
+
+    // Mide el tiempo promedio por operación en un solo hilo
+    public void measure(String name, Op op) throws Exception {
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(op);
+        }
+        double[] nanosPerOp = new double[measureIterations];
+        for (int i = 0; i < measureIterations; i++) {
+            nanosPerOp[i] = runIteration(op);
+        }
+        report(name, nanosPerOp, "ns/op");
+    }
+
+    // Igual que measure, para operaciones que devuelven un primitivo
+    public void measureLong(String name, LongOp op) throws Exception {
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(op);
+        }
+        double[] nanosPerOp = new double[measureIterations];
+        for (int i = 0; i < measureIterations; i++) {
+            nanosPerOp[i] = runIteration(op);
+        }
+        report(name, nanosPerOp, "ns/op");
+    }
+
+    // Mide el rendimiento (ops/s) de varios hilos ejecutando la operación a la vez
+    public void measureThroughput(String name, int threads, Op op) throws Exception {
+        for (int i = 0; i < warmupIterations; i++) {
+            runThreadedIteration(threads, op);
+        }
+        double[] opsPerSecond = new double[measureIterations];
+        for (int i = 0; i < measureIterations; i++) {
+            opsPerSecond[i] = runThreadedIteration(threads, op);
+        }
+        report(name + " [" + threads + " hilos]", opsPerSecond, "ops/s");
+    }
+
+    // Resultados acumulados en formato de tabla
+    public List<String> getResults() {
+        return results;
+    }
+
+    private double runIteration(Op op) throws Exception {
+        long deadline = System.nanoTime() + iterationMillis * 1_000_000L;
+        long operations = 0;
+        long start = System.nanoTime();
+        long now;
+        do {
+            Blackhole.consume(op.run());
+            operations++;
+            now = System.nanoTime();
+        } while (now < deadline);
+        return (double) (now - start) / operations;
+    }
+
+    private double runIteration(LongOp op) throws Exception {
+        long deadline = System.nanoTime() + iterationMillis * 1_000_000L;
+        long operations = 0;
+        long start = System.nanoTime();
+        long now;
+        do {
+            Blackhole.consume(op.run());
+            operations++;
+            now = System.nanoTime();
+        } while (now < deadline);
+        return (double) (now - start) / operations;
+    }
+
+    private double runThreadedIteration(int threads, Op op) throws Exception {
+        LongAdder operations = new LongAdder();
+        LongAdder failures = new LongAdder();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            Thread thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                    while (running.get()) {
+                        Blackhole.consume(op.run());
+                        operations.increment();
+                    }
+                } catch (Exception e) {
+                    failures.increment();
+                } finally {
+                    done.countDown();
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        Thread.sleep(iterationMillis);
+        running.set(false);
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        if (failures.sum() > 0) {
+            throw new IllegalStateException(failures.sum() + " hilos fallaron durante la medición");
+        }
+        return operations.sum() * 1e9 / elapsed;
+    }
+
+    private void report(String name, double[] samples, String unit) {
+        double mean = 0;
+        for (double sample : samples) {
+            mean += sample;
+        }
+        mean /= samples.length;
+        double variance = 0;
+        for (double sample : samples) {
+            variance += (sample - mean) * (sample - mean);
+        }
+        double stddev = samples.length > 1 ? Math.sqrt(variance / (samples.length - 1)) : 0;
+        String line = String.format(Locale.ROOT, "%-58s %16.1f ± %-12.1f %s", name, mean, stddev, unit);
+        results.add(line);
+        System.out.println(line);
+    }
+}
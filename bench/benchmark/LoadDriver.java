@@ -0,0 +1,350 @@
+package benchmark;
+
+import controller.CatalogGenerator;
+import controller.ContentController;
+import controller.ContentEvent;
+import controller.ReportController;
+import controller.UserController;
+import metrics.LatencyHistogram;
+import metrics.OperationMetrics;
+import model.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Generador de carga sin interfaz: simula editores y administradores concurrentes,
+// cada uno en un hilo virtual, contra UserController, ContentController y ReportController.
+// Cada usuario opera con su propia identidad (ContentController.actAs): el controlador
+// verifica sus permisos y cuenta los rechazos, como con sesiones reales.
+//
+// Uso: java -cp out benchmark.LoadDriver [archivo-resultados]
+// Propiedades: -Dload.editors=50 -Dload.admins=5 -Dload.seconds=20 -Dload.catalog=10000
+// -Dload.seed=42 -Dload.hotItems=16 -Dload.thinkMillis=2
+//
+// Las ediciones sobre un conjunto pequeño de artículos "calientes" leen un número de
+// revisión del título, esperan (el usuario "piensa") y escriben revisión + 1 en una copia
+// que confirman con edit. Al final se compara la suma de revisiones con las ediciones
+// confirmadas (eventos UPDATED del controlador): la diferencia son actualizaciones
+// perdidas por escrituras concurrentes sin control de versión. La latencia de edit no
+// incluye la espera del usuario (ni el tiempo hasta que su hilo vuelve a ejecutarse).
+public class LoadDriver {
+    // Operaciones del guion
+    enum Op { LOGIN, SEARCH, FILTER, CREATE, EDIT, PUBLISH, REPORT }
+
+    // Mezclas de operaciones (pesos relativos) por tipo de usuario
+    // Los editores también intentan publicar: su rol no lo permite y el controlador lo rechaza
+    private static final int[] EDITOR_MIX = {0, 35, 30, 10, 20, 5, 0};
+    private static final int[] ADMIN_MIX = {0, 20, 20, 5, 15, 25, 15};
+    private static final int RELOGIN_EVERY = 200;
+    private static final String REVISION_MARK = " r";
+    private static final String[] KEYWORDS = {"java", "cálculo", "música", "autor 1", "diseño", "guía", "xyz"};
+    private static final String[] TYPES = {"Article", "Video", "Image"};
+
+    private final ContentController contentController;
+    private final ReportController reportController;
+    private final UserController userController;
+    private final CatalogGenerator generator;
+    private final List<Content> catalog;
+    private final String[] hot;
+    private final String[] hotTitles;
+    private final AtomicLongArray hotCommitted;
+    private final AtomicLong nextIndex;
+    private final Map<Op, OperationMetrics> metrics;
+    private final AtomicLong expiredSessions;
+    private final Queue<String> errorSamples;
+    private final AtomicBoolean running;
+    private final long thinkMillis;
+
+    // Prepara el catálogo y los controladores compartidos
+    public LoadDriver(int catalogSize, long seed, int hotItems, long thinkMillis) {
+        this.generator = new CatalogGenerator(new CatalogGenerator.Config()
+                .setSize(catalogSize)
+                .setSeed(seed)
+                .setCategoryDepth(3)
+                .setArticleLength(60, 0.7, 1500), Collections.emptyList());
+        this.contentController = new ContentController();
+        // Sin usuario actual: fuera de actAs el controlador rechaza todos los cambios
+        User loader = new Administrator("carga", "carga", "carga@ega.com");
+        this.catalog = contentController.actAs(loader, () -> generator.generate(contentController));
+        this.reportController = new ReportController(contentController);
+        this.userController = new UserController();
+        this.thinkMillis = thinkMillis;
+
+        List<String> articles = new ArrayList<>();
+        List<String> titles = new ArrayList<>();
+        for (Content content : catalog) {
+            if (content instanceof Article && articles.size() < hotItems) {
+                Content copy = content.copy();
+                copy.setTitle(content.getTitle() + REVISION_MARK + 0);
+                contentController.actAs(loader, () -> contentController.edit(copy));
+                articles.add(content.getId());
+                titles.add(content.getTitle());
+            }
+        }
+        this.hot = articles.toArray(new String[0]);
+        this.hotTitles = titles.toArray(new String[0]);
+        this.hotCommitted = new AtomicLongArray(hot.length);
+        // Cada edición aplicada a un artículo caliente llega como un evento UPDATED
+        Map<String, Integer> slots = new HashMap<>();
+        for (int i = 0; i < hot.length; i++) {
+            slots.put(hot[i], i);
+        }
+        contentController.addContentListener(events -> {
+            for (ContentEvent event : events) {
+                Integer slot = slots.get(event.getContentId());
+                if (slot != null && event.getType() == ContentEvent.Type.UPDATED) {
+                    hotCommitted.incrementAndGet(slot);
+                }
+            }
+        });
+        this.nextIndex = new AtomicLong(catalogSize);
+        this.metrics = new EnumMap<>(Op.class);
+        for (Op op : Op.values()) {
+            metrics.put(op, new OperationMetrics("load." + op.name().toLowerCase(Locale.ROOT)));
+        }
+        this.expiredSessions = new AtomicLong();
+        this.errorSamples = new ConcurrentLinkedQueue<>();
+        this.running = new AtomicBoolean();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int editors = Integer.getInteger("load.editors", 50);
+        int admins = Integer.getInteger("load.admins", 5);
+        int seconds = Integer.getInteger("load.seconds", 20);
+        int catalogSize = Integer.getInteger("load.catalog", 10_000);
+        long seed = Long.getLong("load.seed", 42L);
+        int hotItems = Integer.getInteger("load.hotItems", 16);
+        long thinkMillis = Long.getLong("load.thinkMillis", 2L);
+
+        LoadDriver driver = new LoadDriver(catalogSize, seed, hotItems, thinkMillis);
+        List<String> report = driver.run(editors, admins, seconds, seed);
+        report.forEach(System.out::println);
+        if (args.length > 0) {
+            Files.write(Paths.get(args[0]), report, StandardCharsets.UTF_8);
+        }
+        System.exit(0);
+    }
+
+    // Ejecuta la carga durante el tiempo indicado y devuelve el resumen
+    public List<String> run(int editors, int admins, int seconds, long seed) throws InterruptedException {
+        running.set(true);
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < editors + admins; i++) {
+                boolean admin = i < admins;
+                SplittableRandom random = new SplittableRandom(seed + i);
+                executor.submit(() -> simulateUser(admin, random));
+            }
+            TimeUnit.SECONDS.sleep(seconds);
+            running.set(false);
+        }
+        long elapsed = System.nanoTime() - start;
+        return summary(editors, admins, elapsed);
+    }
+
+    // Bucle de un usuario: inicia sesión y ejecuta operaciones según su mezcla
+    private void simulateUser(boolean admin, SplittableRandom random) {
+        String username = admin ? "admin" : "editor";
+        String password = admin ? "admin123" : "editor123";
+        int[] mix = admin ? ADMIN_MIX : EDITOR_MIX;
+        String token = login(username, password);
+        int operations = 0;
+        while (running.get()) {
+            if (token == null || ++operations % RELOGIN_EVERY == 0) {
+                if (token != null) {
+                    userController.closeSession(token);
+                }
+                token = login(username, password);
+                continue;
+            }
+            User user = userController.getUserBySession(token);
+            if (user == null) {
+                expiredSessions.incrementAndGet();
+                token = null;
+                continue;
+            }
+            Op op = pick(mix, random);
+            OperationMetrics metric = metrics.get(op);
+            long started = metric.start();
+            try {
+                long idle = execute(op, user, random);
+                metric.record(System.nanoTime() - started - idle);
+            } catch (Exception e) {
+                metric.recordError();
+                if (errorSamples.size() < 10) {
+                    errorSamples.add(op + ": " + e);
+                }
+            }
+        }
+        if (token != null) {
+            userController.closeSession(token);
+        }
+    }
+
+    private String login(String username, String password) {
+        OperationMetrics metric = metrics.get(Op.LOGIN);
+        long started = metric.start();
+        String token = userController.openSession(username, password);
+        if (token != null) {
+            metric.stop(started);
+        } else {
+            metric.recordError();
+        }
+        return token;
+    }
+
+    // Ejecuta una operación y devuelve los nanosegundos que el usuario pasó pensando
+    private long execute(Op op, User user, SplittableRandom random) throws InterruptedException {
+        switch (op) {
+            case SEARCH:
+                Blackhole.consume(contentController.searchByKeyword(KEYWORDS[random.nextInt(KEYWORDS.length)]));
+                break;
+            case FILTER:
+                filter(random);
+                break;
+            case CREATE:
+                Content created = generator.createContent(nextIndex.getAndIncrement());
+                contentController.actAs(user, () -> contentController.create(created));
+                break;
+            case EDIT:
+                return editHot(user, random);
+            case PUBLISH:
+                String id = catalog.get(random.nextInt(catalog.size())).getId();
+                contentController.actAs(user, () -> {
+                    Content content = contentController.getById(id);
+                    return content.isPublished()
+                            ? contentController.unpublishContent(id)
+                            : contentController.publishContent(id);
+                });
+                break;
+            case REPORT:
+                report(random);
+                break;
+            default:
+                break;
+        }
+        return 0;
+    }
+
+    private void filter(SplittableRandom random) {
+        List<Category> categories = generator.getCategories();
+        switch (random.nextInt(3)) {
+            case 0:
+                Blackhole.consume(contentController.filterByCategoryTree(categories.get(random.nextInt(categories.size()))));
+                break;
+            case 1:
+                Blackhole.consume(contentController.filterByType(TYPES[random.nextInt(TYPES.length)]));
+                break;
+            default:
+                List<Tag> tags = generator.getTags();
+                Blackhole.consume(contentController.filterByTag(tags.get(random.nextInt(Math.min(20, tags.size())))));
+                break;
+        }
+    }
+
+    // Lectura-modificación-escritura de la revisión de un artículo caliente.
+    // Se modifica una copia: el artículo publicado no cambia hasta que edit la confirma.
+    private long editHot(User user, SplittableRandom random) throws InterruptedException {
+        int slot = random.nextInt(hot.length);
+        Content copy = contentController.getById(hot[slot]).copy();
+        long revision = revisionOf(copy);
+        long thinking = System.nanoTime();
+        if (thinkMillis > 0) {
+            Thread.sleep(thinkMillis);
+        }
+        thinking = System.nanoTime() - thinking;
+        copy.setTitle(hotTitles[slot] + REVISION_MARK + (revision + 1));
+        contentController.actAs(user, () -> contentController.edit(copy));
+        return thinking;
+    }
+
+    private static long revisionOf(Content content) {
+        String title = content.getTitle();
+        return Long.parseLong(title.substring(title.lastIndexOf(REVISION_MARK) + REVISION_MARK.length()));
+    }
+
+    private void report(SplittableRandom random) {
+        switch (random.nextInt(10)) {
+            case 0:
+                Blackhole.consume(reportController.generateContentReport());
+                break;
+            case 1:
+            case 2:
+            case 3:
+                Blackhole.consume(reportController.getContentsByCategory());
+                break;
+            default:
+                Blackhole.consume(reportController.getStatistics());
+                break;
+        }
+    }
+
+    private static Op pick(int[] mix, SplittableRandom random) {
+        int total = 0;
+        for (int weight : mix) {
+            total += weight;
+        }
+        int value = random.nextInt(total);
+        for (int i = 0; i < mix.length; i++) {
+            value -= mix[i];
+            if (value < 0) {
+                return Op.values()[i];
+            }
+        }
+        return Op.SEARCH;
+    }
+
+    private List<String> summary(int editors, int admins, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "# java %s | %d CPU | %d editores + %d administradores | %.1f s | catálogo inicial %d",
+                System.getProperty("java.version"), Runtime.getRuntime().availableProcessors(),
+                editors, admins, seconds, catalog.size()));
+        lines.add(String.format(Locale.ROOT, "%-8s %10s %8s %10s %10s %10s %10s %10s",
+                "op", "llamadas", "errores", "ops/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        long total = 0;
+        for (Op op : Op.values()) {
+            OperationMetrics metric = metrics.get(op);
+            LatencyHistogram histogram = metric.getHistogram();
+            total += metric.getCalls();
+            lines.add(String.format(Locale.ROOT, "%-8s %10d %8d %10.1f %10.3f %10.3f %10.3f %10.3f",
+                    op.name().toLowerCase(Locale.ROOT), metric.getCalls(), metric.getErrors(),
+                    metric.getCalls() / seconds,
+                    histogram.getPercentile(50) / 1e6, histogram.getPercentile(95) / 1e6,
+                    histogram.getPercentile(99) / 1e6, histogram.getMax() / 1e6));
+        }
+        lines.add(String.format(Locale.ROOT, "total: %d operaciones, %.1f ops/s", total, total / seconds));
+
+        long committed = 0;
+        long stored = 0;
+        for (int i = 0; i < hot.length; i++) {
+            committed += hotCommitted.get(i);
+            stored += revisionOf(contentController.getById(hot[i]));
+        }
+        lines.add(String.format(Locale.ROOT, "ediciones confirmadas: %d, revisiones guardadas: %d, actualizaciones perdidas: %d",
+                committed, stored, committed - stored));
+        lines.add("permisos denegados: " + contentController.getDeniedCount() + ", sesiones expiradas: " + expiredSessions.get()
+                + ", contenidos finales: " + contentController.getAllContent().size());
+        for (String error : errorSamples) {
+            lines.add("error: " + error);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,137 @@
+package benchmark;
+
+import analytics.HyperLogLog;
+import analytics.QuantileSketch;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Prueba de precisión de los sketches de analytics contra los valores exactos.
+// - HyperLogLog: a lo sumo el 1% de las estimaciones puede alejarse más de 3 errores estándar
+//   (getRelativeError) del conteo real, en varios tamaños.
+// - QuantileSketch: cada percentil queda dentro del error relativo configurado, también después
+//   de quitar valores.
+// - Combinar particiones (merge) da exactamente la misma estimación que un sketch con todo.
+// Termina con error (AssertionError) ante la primera diferencia.
+//
+// Uso: java -cp out benchmark.SketchAccuracy
+// Propiedades: -Dsketch.trials=100 -Dsketch.values=200000 -Dsketch.seed=7
+public class SketchAccuracy {
+    private static final int[] DISTINCT_SIZES = {100, 1_000, 10_000, 100_000};
+    private static final double MAX_OUTSIDE_FRACTION = 0.01;
+    // El sketch garantiza justo el límite; se admite solo el redondeo de punto flotante
+    private static final double ROUNDING = 1e-9;
+
+    public static void main(String[] args) {
+        int trials = Integer.getInteger("sketch.trials", 100);
+        int values = Integer.getInteger("sketch.values", 200_000);
+        long seed = Long.getLong("sketch.seed", 7L);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int size : DISTINCT_SIZES) {
+            distinctCounts(size, trials, random);
+        }
+        String[] distributions = {"lognormal", "uniforme", "pocos valores"};
+        for (int distribution = 0; distribution < distributions.length; distribution++) {
+            quantiles(distributions[distribution], distribution, values, random);
+        }
+        System.out.println("SketchAccuracy: OK");
+    }
+
+    // Estimación de distintos: error cuadrático medio y cuántas quedan fuera de 3 errores estándar
+    private static void distinctCounts(int size, int trials, SplittableRandom random) {
+        double limit = 3 * new HyperLogLog().getRelativeError();
+        double squares = 0;
+        double worst = 0;
+        int outside = 0;
+        for (int t = 0; t < trials; t++) {
+            HyperLogLog all = new HyperLogLog();
+            HyperLogLog even = new HyperLogLog();
+            HyperLogLog odd = new HyperLogLog();
+            long base = random.nextLong();
+            for (int i = 0; i < size; i++) {
+                String value = "autor-" + base + "-" + i;
+                all.add(value);
+                (i % 2 == 0 ? even : odd).add(value);
+                // Un valor repetido en una partición no cambia la unión
+                if (i % 3 == 0) {
+                    even.add(value);
+                }
+            }
+            even.merge(odd);
+            check(even.estimate() == all.estimate(), "merge de HyperLogLog: " + even.estimate()
+                    + " en lugar de " + all.estimate() + " con " + size + " valores");
+
+            double error = (all.estimate() - size) / (double) size;
+            squares += error * error;
+            worst = Math.max(worst, Math.abs(error));
+            if (Math.abs(error) > limit) {
+                outside++;
+            }
+        }
+        System.out.printf("HyperLogLog %,d distintos: error medio %.3f%%, peor %.3f%%, fuera de 3σ %d/%d%n",
+                size, 100 * Math.sqrt(squares / trials), 100 * worst, outside, trials);
+        check(outside <= Math.ceil(trials * MAX_OUTSIDE_FRACTION), "HyperLogLog con " + size
+                + " distintos: " + outside + " de " + trials + " estimaciones fuera de 3σ");
+    }
+
+    // Percentiles 0..100 frente al valor exacto de rango floor(q * (n - 1)), tras quitar una cuarta parte
+    private static void quantiles(String name, int distribution, int count, SplittableRandom random) {
+        QuantileSketch all = new QuantileSketch();
+        QuantileSketch even = new QuantileSketch();
+        QuantileSketch odd = new QuantileSketch();
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = sample(distribution, random);
+            all.add(values[i]);
+            (i % 2 == 0 ? even : odd).add(values[i]);
+        }
+        int removed = count / 4;
+        for (int i = 0; i < removed; i++) {
+            all.remove(values[i]);
+            (i % 2 == 0 ? even : odd).remove(values[i]);
+        }
+        double[] remaining = Arrays.copyOfRange(values, removed, count);
+        Arrays.sort(remaining);
+        QuantileSketch merged = new QuantileSketch(even);
+        merged.merge(odd);
+        check(merged.getCount() == all.getCount(), "merge de cuantiles (" + name + "): "
+                + merged.getCount() + " valores en lugar de " + all.getCount());
+
+        double worst = 0;
+        for (int percentile = 0; percentile <= 100; percentile++) {
+            double q = percentile / 100.0;
+            double exact = remaining[(int) Math.floor(q * (remaining.length - 1))];
+            double estimate = all.quantile(q);
+            check(merged.quantile(q) == estimate, "merge de cuantiles (" + name + ") p" + percentile
+                    + ": " + merged.quantile(q) + " en lugar de " + estimate);
+            double error = Math.abs(estimate - exact) / exact;
+            worst = Math.max(worst, error);
+            check(error <= all.getRelativeAccuracy() + ROUNDING, "cuantiles (" + name + ") p" + percentile + ": "
+                    + estimate + " frente a " + exact);
+        }
+        System.out.printf("QuantileSketch %s: %,d valores, peor error relativo %.3f%% (límite %.1f%%)%n",
+                name, all.getCount(), 100 * worst, 100 * all.getRelativeAccuracy());
+    }
+
+    // Valores positivos: cola larga (palabras), uniforme (duraciones) y muy repetidos
+    private static double sample(int distribution, SplittableRandom random) {
+        switch (distribution) {
+            case 0: return Math.exp(gaussian(random) * 2 + 6);
+            case 1: return 1 + random.nextInt(5000);
+            default: return 1 + random.nextInt(3);
+        }
+    }
+
+    // Normal estándar por Box-Muller (SplittableRandom no la trae)
+    private static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package benchmark.jmh;
+
+import benchmark.CatalogFixture;
+import controller.ContentController;
+import controller.SortField;
+import model.Category;
+import model.Content;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// CRUD, búsqueda y filtros de ContentController sobre un catálogo sintético (ver CatalogFixture).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class ContentControllerBenchmark {
+    private static final long SEED = 42L;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private CatalogFixture fixture;
+    private ContentController controller;
+    private List<Content> contents;
+    private List<Category> categories;
+    private SplittableRandom random;
+    private int nextIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = new CatalogFixture(size, SEED);
+        controller = fixture.getController();
+        contents = fixture.getContents();
+        categories = fixture.getCategories();
+        random = new SplittableRandom(SEED);
+        nextIndex = size;
+    }
+
+    @Benchmark
+    public Content getById() {
+        return controller.getById(contents.get(random.nextInt(contents.size())).getId());
+    }
+
+    @Benchmark
+    public List<Content> searchByKeyword() {
+        return controller.searchByKeyword("cálculo");
+    }
+
+    @Benchmark
+    public Object suggest() {
+        return controller.suggest("cál", 8);
+    }
+
+    @Benchmark
+    public List<Content> searchFuzzy() {
+        return controller.searchFuzzy("calclo diferencal", 2);
+    }
+
+    @Benchmark
+    public List<Content> filterByCategory() {
+        return controller.filterByCategory(categories.get(random.nextInt(categories.size())));
+    }
+
+    @Benchmark
+    public List<Content> filterByCategoryTree() {
+        return controller.filterByCategoryTree(categories.get(0));
+    }
+
+    @Benchmark
+    public List<Content> filterByType() {
+        return controller.filterByType("Video");
+    }
+
+    @Benchmark
+    public List<Content> filterByTag() {
+        return controller.filterByTag(fixture.getTags().get(3));
+    }
+
+    @Benchmark
+    public List<Content> getAllContent() {
+        return controller.getAllContent();
+    }
+
+    @Benchmark
+    public Object getPageByTitle() {
+        return controller.getPage(SortField.TITLE, true, null, 50);
+    }
+
+    @Benchmark
+    public List<Content> getStaleDrafts() {
+        return controller.getStaleDrafts(90);
+    }
+
+    @Benchmark
+    public Content edit() {
+        Content content = contents.get(random.nextInt(contents.size()));
+        controller.edit(content);
+        return content;
+    }
+
+    // El catálogo no crece: cada contenido nuevo se elimina en la misma operación
+    @Benchmark
+    public boolean createDelete() {
+        Content content = fixture.newContent(nextIndex++);
+        controller.create(content);
+        return controller.delete(content.getId());
+    }
+}
@@ -0,0 +1,78 @@
+package benchmark.jmh;
+
+import benchmark.CatalogFixture;
+import model.Article;
+import model.Category;
+import model.IdGenerator;
+import model.Image;
+import model.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Operaciones del modelo: conteo de palabras, tamaño de imagen y generación de ids.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+    // Artículo con un texto de words palabras
+    @State(Scope.Benchmark)
+    public static class ArticleState {
+        @Param({"50", "1000", "20000"})
+        public int words;
+
+        Article article;
+        String text;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            text = CatalogFixture.text(new Random(42L), words);
+            article = new Article("Bench", "Bench", new Category("Bench", "Bench"), text);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ImageState {
+        final Image image = new Image("Bench", "Bench", new Category("Bench", "Bench"),
+                "https://example.com/bench.png", "1920x1080", "PNG");
+    }
+
+    @State(Scope.Benchmark)
+    public static class IdState {
+        final IdGenerator timeOrdered = new TimeOrderedIdGenerator();
+    }
+
+    // Conteo de palabras al cambiar el texto
+    @Benchmark
+    public int articleSetContent(ArticleState state) {
+        state.article.setContent(state.text);
+        return state.article.getWordCount();
+    }
+
+    @Benchmark
+    public long imageGetFileSize(ImageState state) {
+        return state.image.getFileSize();
+    }
+
+    @Benchmark
+    public String imageGetFormattedFileSize(ImageState state) {
+        return state.image.getFormattedFileSize();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String timeOrderedNextId(IdState state) {
+        return state.timeOrdered.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,67 @@
+package benchmark.jmh;
+
+import benchmark.CatalogFixture;
+import controller.ReportController;
+import model.Category;
+import model.Report;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Agregaciones de ReportController (leídas del cubo y de los sketches del controlador).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class ReportControllerBenchmark {
+    private static final long SEED = 42L;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ReportController reports;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        reports = new ReportController(new CatalogFixture(size, SEED).getController());
+    }
+
+    @Benchmark
+    public Map<String, Integer> getStatistics() {
+        return reports.getStatistics();
+    }
+
+    @Benchmark
+    public Map<Category, Integer> getContentsByCategory() {
+        return reports.getContentsByCategory();
+    }
+
+    @Benchmark
+    public Map<String, Integer> getContentsByAuthor() {
+        return reports.getContentsByAuthor();
+    }
+
+    @Benchmark
+    public Object getMostRecentContent() {
+        return reports.getMostRecentContent(10);
+    }
+
+    @Benchmark
+    public Report generateContentReport() {
+        return reports.generateContentReport();
+    }
+
+    @Benchmark
+    public long estimateDistinctAuthors() {
+        return reports.estimateDistinctAuthors();
+    }
+
+    @Benchmark
+    public Object estimateWordCountQuantiles() {
+        return reports.estimateWordCountQuantiles(0.5, 0.9, 0.99);
+    }
+}
@@ -0,0 +1,53 @@
+package benchmark.jmh;
+
+import controller.UserController;
+import model.Editor;
+import model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Búsqueda de usuarios e inicio de sesión bajo concurrencia.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserControllerBenchmark {
+    private static final int USERS = 10_000;
+
+    private UserController users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        users = new UserController();
+        for (int i = 0; i < USERS; i++) {
+            users.registerUser(new Editor("editor" + i, "clave" + i, "editor" + i + "@ega.com"));
+        }
+    }
+
+    // Generador por hilo para no compartir estado entre hilos de medición
+    @State(Scope.Thread)
+    public static class ThreadRandom {
+        final SplittableRandom random = new SplittableRandom(42L);
+    }
+
+    @Benchmark
+    public User findUserByUsername(ThreadRandom state) {
+        return users.findUserByUsername("editor" + state.random.nextInt(USERS));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean openCloseSession() {
+        return users.closeSession(users.openSession("admin", "admin123"));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean login() {
+        return users.login("editor", "editor123");
+    }
+}
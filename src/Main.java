@@ -1,10 +1,13 @@
 import controller.UserController;
+import metrics.MetricsFileDumper;
+import metrics.MetricsRegistry;
 import model.User;
 import view.LoginDialog;
 import view.MainFrame;
 
 import javax.swing.*;
 import java.awt.*;
+import java.nio.file.Paths;
 
 /**
  * Clase principal que inicia el Sistema de Gestión de Contenidos ósea el CMS
@@ -29,11 +32,30 @@ public class Main {
                     + e.getMessage());
         }
 
+        iniciarMetricas();
+
         SwingUtilities.invokeLater(() -> {
             iniciarAplicacion();
         });
     }
 
+    /**
+     * Expone las métricas por JMX y, si se indica -Dcms.metrics.file=ruta,
+     * las vuelca periódicamente en ese archivo (cada -Dcms.metrics.period segundos, 60 por defecto).
+     */
+    private static void iniciarMetricas() {
+        MetricsRegistry registry = MetricsRegistry.getDefault();
+        registry.registerMBean();
+
+        String file = System.getProperty("cms.metrics.file");
+        if (file != null && !file.trim().isEmpty()) {
+            long period = Long.getLong("cms.metrics.period", 60L);
+            MetricsFileDumper dumper = new MetricsFileDumper(registry, Paths.get(file));
+            dumper.start(period);
+            Runtime.getRuntime().addShutdownHook(new Thread(dumper::stop));
+        }
+    }
+
     /**
      * Primero muestra el diálogo de login y luego la ventana principal.
      */
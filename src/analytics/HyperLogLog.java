@@ -0,0 +1,151 @@
+package analytics;
+
+import java.nio.charset.StandardCharsets;
+
+// Estimador de cantidad de valores distintos (HyperLogLog).
+// Usa 2^p registros de un byte: con p = 12 ocupa 4 KB sin importar cuántos valores vea.
+// Precisión: error relativo típico (desviación estándar) de 1.04 / sqrt(2^p), 1.6% con p = 12;
+// el 99% de las estimaciones queda dentro de ±3 desviaciones (±4.9%), desde pocos valores
+// (donde es casi exacto) hasta miles de millones.
+// Solo admite agregar: un valor quitado del catálogo sigue contado hasta reconstruir el sketch.
+// Dos sketches con la misma p se combinan con merge (máximo por registro), así cada
+// partición del catálogo puede llevar el suyo y el total se obtiene sin perder precisión.
+// No es seguro entre hilos.
+public class HyperLogLog {
+    public static final int DEFAULT_PRECISION = 12;
+    private static final int MIN_PRECISION = 4;
+    private static final int MAX_PRECISION = 18;
+
+    private final int precision;
+    private final byte[] registers;
+
+    // Constructor con la precisión por omisión (p = 12).
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    // Constructor con 2^precision registros.
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("La precisión debe estar entre " + MIN_PRECISION
+                    + " y " + MAX_PRECISION + ": " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    // Constructor de copia.
+    public HyperLogLog(HyperLogLog other) {
+        this.precision = other.precision;
+        this.registers = other.registers.clone();
+    }
+
+    // Agrega un texto (null se ignora).
+    public void add(String value) {
+        if (value != null) {
+            addHash(hash(value));
+        }
+    }
+
+    // Agrega un valor ya convertido a un hash de 64 bits bien distribuido.
+    public void addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // Posición del primer 1 en los bits restantes (el centinela acota el resultado)
+        long rest = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    // Estimación de la cantidad de valores distintos agregados.
+    // Usa el estimador mejorado de Ertl (2017) sobre el histograma de registros: corrige los
+    // registros vacíos y los saturados sin tablas empíricas, así que no tiene el sesgo del
+    // estimador clásico en la transición desde el conteo lineal (~2.5 * 2^p valores).
+    public long estimate() {
+        int m = registers.length;
+        int q = 64 - precision;
+        int[] histogram = new int[q + 2];
+        for (byte register : registers) {
+            histogram[register]++;
+        }
+        double z = m * tau(1 - (double) histogram[q + 1] / m);
+        for (int k = q; k >= 1; k--) {
+            z = 0.5 * (z + histogram[k]);
+        }
+        z += m * sigma((double) histogram[0] / m);
+        return Math.round(m * m / (2 * Math.log(2) * z));
+    }
+
+    // Combina otro sketch en este: el resultado estima la unión de ambos conjuntos.
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("No se pueden combinar sketches de distinta precisión: "
+                    + precision + " y " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    // Error relativo típico (una desviación estándar) de la estimación.
+    public double getRelativeError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    // Hash de 64 bits de un texto: FNV-1a sobre los bytes UTF-8 y mezcla final de MurmurHash3.
+    // String.hashCode tiene solo 32 bits y se distribuye mal para este uso.
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // Corrección por registros vacíos: x + x^2 + 2x^4 + 4x^8 + ...
+    private static double sigma(double x) {
+        if (x == 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double y = 1;
+        double z = x;
+        double previous;
+        do {
+            x *= x;
+            previous = z;
+            z += x * y;
+            y += y;
+        } while (z != previous);
+        return z;
+    }
+
+    // Corrección por registros saturados (solo importa con muchísimos valores).
+    private static double tau(double x) {
+        if (x == 0 || x == 1) {
+            return 0;
+        }
+        double y = 1;
+        double z = 1 - x;
+        double previous;
+        do {
+            x = Math.sqrt(x);
+            previous = z;
+            y *= 0.5;
+            z -= (1 - x) * (1 - x) * y;
+        } while (z != previous);
+        return z / 3;
+    }
+}
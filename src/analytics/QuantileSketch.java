@@ -0,0 +1,141 @@
+package analytics;
+
+import java.util.Arrays;
+
+// Sketch de cuantiles con error relativo garantizado, al estilo DDSketch.
+// Cada valor positivo x cae en el intervalo ceil(log_gamma(x)), con gamma = (1 + a) / (1 - a);
+// el cuantil se responde con el centro del intervalo, así que cualquier cuantil devuelto
+// está a menos de a (1% por omisión) del valor real de ese rango, sin importar la escala ni
+// la forma de la distribución. Los valores de 1 a 10^9 ocupan ~1000 intervalos (8 KB).
+// Acepta valores >= 0 (los ceros se cuentan aparte). Como guarda cantidades por intervalo
+// también permite quitar un valor agregado antes, y dos sketches con la misma precisión se
+// combinan sumando intervalos: combinar particiones da el mismo resultado que un solo sketch.
+// No es seguro entre hilos.
+public class QuantileSketch {
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    // Por debajo de este valor se cuenta como cero (evita índices enormes negativos)
+    private static final double MIN_INDEXABLE = 1e-9;
+
+    private final double relativeAccuracy;
+    private final double logGamma;
+    private long[] counts;
+    private int offset;
+    private long zeroCount;
+    private long count;
+
+    // Constructor con 1% de error relativo.
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    // Constructor con el error relativo indicado (entre 0 y 1, sin incluirlos).
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("El error relativo debe estar entre 0 y 1: " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.logGamma = Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+        this.counts = new long[0];
+    }
+
+    // Constructor de copia.
+    public QuantileSketch(QuantileSketch other) {
+        this.relativeAccuracy = other.relativeAccuracy;
+        this.logGamma = other.logGamma;
+        this.counts = other.counts.clone();
+        this.offset = other.offset;
+        this.zeroCount = other.zeroCount;
+        this.count = other.count;
+    }
+
+    // Agrega un valor.
+    public void add(double value) {
+        update(value, 1);
+    }
+
+    // Quita un valor agregado antes (por ejemplo, al editar o eliminar un contenido).
+    public void remove(double value) {
+        update(value, -1);
+    }
+
+    // Valor aproximado del cuantil q (entre 0 y 1); NaN si el sketch está vacío.
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("El cuantil debe estar entre 0 y 1: " + q);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        if (rank < zeroCount) {
+            return 0;
+        }
+        long seen = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                return valueOf(i + offset);
+            }
+        }
+        return valueOf(counts.length - 1 + offset);
+    }
+
+    // Combina otro sketch en este: el resultado resume ambos conjuntos de valores.
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("No se pueden combinar sketches de distinta precisión: "
+                    + relativeAccuracy + " y " + other.relativeAccuracy);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] != 0) {
+                addToBin(i + other.offset, other.counts[i]);
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    // Cantidad de valores resumidos.
+    public long getCount() {
+        return count;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    private void update(double value, long delta) {
+        if (!(value >= 0)) {
+            throw new IllegalArgumentException("Solo se admiten valores no negativos: " + value);
+        }
+        if (value < MIN_INDEXABLE) {
+            zeroCount += delta;
+        } else {
+            addToBin((int) Math.ceil(Math.log(value) / logGamma), delta);
+        }
+        count += delta;
+    }
+
+    // Suma delta al intervalo, ampliando el arreglo hacia el lado que haga falta.
+    private void addToBin(int index, long delta) {
+        if (counts.length == 0) {
+            counts = new long[1];
+            offset = index;
+        } else if (index < offset) {
+            int grow = offset - index;
+            long[] next = new long[counts.length + grow];
+            System.arraycopy(counts, 0, next, grow, counts.length);
+            counts = next;
+            offset = index;
+        } else if (index >= offset + counts.length) {
+            counts = Arrays.copyOf(counts, index - offset + 1);
+        }
+        counts[index - offset] += delta;
+    }
+
+    // Centro del intervalo i en la escala relativa: 2 * gamma^i / (gamma + 1).
+    private double valueOf(int index) {
+        double gamma = Math.exp(logGamma);
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+}
@@ -0,0 +1,239 @@
+package controller;
+
+import model.Category;
+import model.Content;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+// Contadores de actividad (creados, publicados, editados) por intervalo de tiempo.
+// Se alimentan de los eventos del ContentController y cada evento suma en su día, su semana
+// (de lunes a domingo) y su mes, desglosado por tipo y categoría. Así un histograma de un año
+// lee a lo sumo 366 intervalos ya sumados y nunca recorre el historial de contenidos.
+// Los eventos llegan combinados por lote y se cuenta cada tipo de cambio que reúne el evento
+// (getTypes): varias ediciones de un contenido en un mismo lote cuentan una vez, y publicar y
+// editar en el mismo lote cuenta en ambos. Un contenido creado ya publicado también cuenta
+// como publicado.
+public class ActivityCounters implements ContentListener {
+    // Actividad contada
+    public enum Activity {
+        CREATED("Creados"),
+        PUBLISHED("Publicados"),
+        EDITED("Editados");
+
+        private final String label;
+
+        Activity(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() { return label; }
+    }
+
+    // Tamaño de los intervalos
+    public enum Granularity {
+        DAY("Día"),
+        WEEK("Semana"),
+        MONTH("Mes");
+
+        private final String label;
+
+        Granularity(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() { return label; }
+
+        // Primer día del intervalo que contiene la fecha.
+        public LocalDate startOf(LocalDate date) {
+            switch (this) {
+                case DAY: return date;
+                case WEEK: return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                default: return date.withDayOfMonth(1);
+            }
+        }
+
+        // Primer día del intervalo siguiente.
+        public LocalDate next(LocalDate start) {
+            switch (this) {
+                case DAY: return start.plusDays(1);
+                case WEEK: return start.plusWeeks(1);
+                default: return start.plusMonths(1);
+            }
+        }
+    }
+
+    private final ZoneId zone;
+    private final Map<Granularity, TreeMap<LocalDate, Bucket>> buckets;
+
+    // Constructor con la zona horaria del sistema.
+    public ActivityCounters() {
+        this(ZoneId.systemDefault());
+    }
+
+    // Constructor con la zona horaria en la que se cortan los días.
+    public ActivityCounters(ZoneId zone) {
+        this.zone = zone;
+        this.buckets = new EnumMap<>(Granularity.class);
+        for (Granularity granularity : Granularity.values()) {
+            buckets.put(granularity, new TreeMap<>());
+        }
+    }
+
+    // Suma la actividad de un lote de eventos.
+    @Override
+    public synchronized void onContentChanged(List<ContentEvent> events) {
+        for (ContentEvent event : events) {
+            Content content = event.getContent();
+            Set<ContentEvent.Type> types = event.getTypes();
+            // Eliminar y despublicar no se cuentan
+            if (types.contains(ContentEvent.Type.CREATED)) {
+                record(Activity.CREATED, content, content.getCreationDate(), event);
+                if (content.isPublished()) {
+                    record(Activity.PUBLISHED, content, content.getPublishDate(), event);
+                }
+            } else if (types.contains(ContentEvent.Type.PUBLISHED)) {
+                record(Activity.PUBLISHED, content, content.getPublishDate(), event);
+            }
+            if (types.contains(ContentEvent.Type.UPDATED)) {
+                record(Activity.EDITED, content, content.getLastModified(), event);
+            }
+        }
+    }
+
+    // Cantidad por intervalo en [from, to), con cero en los intervalos sin actividad.
+    // type y category filtran el desglose (null = todos).
+    public synchronized SortedMap<LocalDate, Long> histogram(Granularity granularity, Activity activity,
+                                                            LocalDate from, LocalDate to,
+                                                            String type, Category category) {
+        SortedMap<LocalDate, Long> result = new TreeMap<>();
+        LocalDate first = granularity.startOf(from);
+        for (LocalDate start = first; start.isBefore(to); start = granularity.next(start)) {
+            result.put(start, 0L);
+        }
+        for (Map.Entry<LocalDate, Bucket> entry : buckets.get(granularity).subMap(first, to).entrySet()) {
+            result.put(entry.getKey(), entry.getValue().count(activity, type, category));
+        }
+        return result;
+    }
+
+    // Total por tipo de contenido en los días [from, to).
+    public synchronized Map<String, Long> countByType(Activity activity, LocalDate from, LocalDate to) {
+        Map<String, Long> result = new TreeMap<>();
+        for (Bucket bucket : range(from, to)) {
+            for (Map.Entry<Cell, long[]> cell : bucket.cells.entrySet()) {
+                result.merge(cell.getKey().type, cell.getValue()[activity.ordinal()], Long::sum);
+            }
+        }
+        result.values().removeIf(count -> count == 0);
+        return result;
+    }
+
+    // Total por categoría en los días [from, to).
+    public synchronized Map<Category, Long> countByCategory(Activity activity, LocalDate from, LocalDate to) {
+        Map<Category, Long> result = new LinkedHashMap<>();
+        for (Bucket bucket : range(from, to)) {
+            for (Map.Entry<Cell, long[]> cell : bucket.cells.entrySet()) {
+                result.merge(cell.getKey().category, cell.getValue()[activity.ordinal()], Long::sum);
+            }
+        }
+        result.values().removeIf(count -> count == 0);
+        return result;
+    }
+
+    // Fecha local de un instante en la zona de los contadores.
+    public LocalDate toLocalDate(Date date) {
+        return Instant.ofEpochMilli(date.getTime()).atZone(zone).toLocalDate();
+    }
+
+    // Intervalos que cubren los días [from, to): meses completos y días en los bordes.
+    private List<Bucket> range(LocalDate from, LocalDate to) {
+        List<Bucket> result = new ArrayList<>();
+        LocalDate day = from;
+        while (day.isBefore(to)) {
+            LocalDate monthEnd = Granularity.MONTH.next(Granularity.MONTH.startOf(day));
+            if (day.getDayOfMonth() == 1 && !monthEnd.isAfter(to)) {
+                addIfPresent(result, Granularity.MONTH, day);
+                day = monthEnd;
+            } else {
+                addIfPresent(result, Granularity.DAY, day);
+                day = day.plusDays(1);
+            }
+        }
+        return result;
+    }
+
+    private void addIfPresent(List<Bucket> result, Granularity granularity, LocalDate start) {
+        Bucket bucket = buckets.get(granularity).get(start);
+        if (bucket != null) {
+            result.add(bucket);
+        }
+    }
+
+    private void record(Activity activity, Content content, Date when, ContentEvent event) {
+        LocalDate day = toLocalDate(when != null ? when : new Date(event.getTimestamp()));
+        Cell cell = new Cell(content.getContentType(), content.getCategory());
+        for (Granularity granularity : Granularity.values()) {
+            buckets.get(granularity)
+                    .computeIfAbsent(granularity.startOf(day), start -> new Bucket())
+                    .add(cell, activity);
+        }
+    }
+
+    // Contadores de un intervalo, por combinación de tipo y categoría
+    private static final class Bucket {
+        final Map<Cell, long[]> cells = new HashMap<>();
+
+        void add(Cell cell, Activity activity) {
+            cells.computeIfAbsent(cell, c -> new long[Activity.values().length])[activity.ordinal()]++;
+        }
+
+        long count(Activity activity, String type, Category category) {
+            long total = 0;
+            for (Map.Entry<Cell, long[]> entry : cells.entrySet()) {
+                Cell cell = entry.getKey();
+                if ((type == null || type.equals(cell.type)) && (category == null || category.equals(cell.category))) {
+                    total += entry.getValue()[activity.ordinal()];
+                }
+            }
+            return total;
+        }
+    }
+
+    // Combinación de tipo y categoría
+    private static final class Cell {
+        final String type;
+        final Category category;
+
+        Cell(String type, Category category) {
+            this.type = type;
+            this.category = category;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Cell)) return false;
+            Cell other = (Cell) o;
+            return type.equals(other.type) && Objects.equals(category, other.category);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + Objects.hashCode(category);
+        }
+    }
+}
@@ -0,0 +1,461 @@
+package controller;
+
+import model.Content;
+import model.Tag;
+import model.TextNormalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Índice de autocompletado sobre títulos, autores y etiquetas (sin mayúsculas ni tildes).
+// Es un trie comprimido (radix): cada arista guarda un fragmento de texto y cada nodo
+// mantiene en caché los TOP_K términos más populares de su subárbol, así completar un
+// prefijo es bajar por el trie y devolver esa lista, sin recorrer el subárbol.
+// La popularidad de un término es la cantidad de contenidos que lo usan. Títulos y autores
+// también se indexan desde el inicio de cada palabra ("java" sugiere "introducción a java").
+// Al bajar la popularidad de un término solo se recalculan las listas que lo contienen: si un
+// nodo no lo tiene entre sus TOP_K, tampoco lo tiene ningún ancestro.
+public class AutocompleteIndex {
+    // Origen del término sugerido
+    public enum Kind { TITLE, AUTHOR, TAG }
+
+    private static final int TOP_K = 10;
+    private static final int MAX_KEY_WORDS = 6;
+    private static final Comparator<Term> RANKING = Comparator
+            .comparingInt((Term term) -> -term.count)
+            .thenComparing(term -> term.normalized);
+
+    private final Node root;
+    private final Map<String, Term> terms;
+    private final Map<String, List<Term>> termsByContent;
+
+    // Constructor de un índice vacío.
+    public AutocompleteIndex() {
+        this.root = new Node("");
+        this.terms = new HashMap<>();
+        this.termsByContent = new HashMap<>();
+    }
+
+    // Agrega los términos de un contenido.
+    public synchronized void add(Content content) {
+        List<Term> current = collect(content);
+        for (Term term : current) {
+            increment(term);
+        }
+        termsByContent.put(content.getId(), current);
+    }
+
+    // Actualiza los términos de un contenido editado (solo cambia lo que difiere).
+    public synchronized void update(Content content) {
+        List<Term> previous = termsByContent.remove(content.getId());
+        List<Term> current = collect(content);
+        for (Term term : current) {
+            if (previous == null || !previous.contains(term)) {
+                increment(term);
+            }
+        }
+        if (previous != null) {
+            for (Term term : previous) {
+                if (!current.contains(term)) {
+                    decrement(term);
+                }
+            }
+        }
+        termsByContent.put(content.getId(), current);
+    }
+
+    // Quita los términos de un contenido eliminado.
+    public synchronized void remove(String contentId) {
+        List<Term> previous = termsByContent.remove(contentId);
+        if (previous != null) {
+            for (Term term : previous) {
+                decrement(term);
+            }
+        }
+    }
+
+    // Devuelve hasta limit sugerencias para el prefijo, de la más popular a la menos.
+    public synchronized List<Completion> complete(String prefix, int limit) {
+        String key = TextNormalizer.fold(prefix);
+        List<Completion> result = new ArrayList<>();
+        if (key.isEmpty() || limit <= 0) {
+            return result;
+        }
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                return result;
+            }
+            int common = commonPrefix(child.label, key, i);
+            if (i + common == key.length()) {
+                node = child; // El prefijo termina dentro de esta arista
+                break;
+            }
+            if (common < child.label.length()) {
+                return result;
+            }
+            node = child;
+            i += common;
+        }
+        for (int j = 0; j < node.top.length && result.size() < limit; j++) {
+            Term term = node.top[j];
+            result.add(new Completion(term.display, term.kind, term.count));
+        }
+        return result;
+    }
+
+    // Cantidad de términos distintos.
+    public synchronized int size() {
+        return terms.size();
+    }
+
+    // Términos distintos de un contenido.
+    private List<Term> collect(Content content) {
+        List<Term> result = new ArrayList<>();
+        // Título y autor ya traen su clave normalizada desde Content
+        addTerm(result, Kind.TITLE, content.getTitle(), content.getTitleKey());
+        addTerm(result, Kind.AUTHOR, content.getAuthor(), content.getAuthorKey());
+        for (Tag tag : content.getTags()) {
+            addTerm(result, Kind.TAG, tag.getName(), TextNormalizer.fold(tag.getName()));
+        }
+        return result;
+    }
+
+    private void addTerm(List<Term> result, Kind kind, String text, String normalized) {
+        if (normalized.isEmpty()) {
+            return;
+        }
+        String id = kind + "|" + normalized;
+        for (Term term : result) {
+            if (term.id.equals(id)) {
+                return;
+            }
+        }
+        Term term = terms.get(id);
+        result.add(term != null ? term : new Term(id, kind, text.trim(), normalized));
+    }
+
+    private void increment(Term term) {
+        if (term.count == 0) {
+            terms.put(term.id, term);
+            for (String key : keys(term)) {
+                insert(key, term);
+            }
+        }
+        term.count++;
+        for (String key : keys(term)) {
+            promote(find(key), term);
+        }
+    }
+
+    private void decrement(Term term) {
+        if (term.count == 0) {
+            return;
+        }
+        term.count--;
+        for (String key : keys(term)) {
+            List<Node> path = find(key);
+            // Nodos cuya lista contiene el término, tomados antes de podar (podar puede fusionar
+            // un nodo con su hermano y reemplazar su lista)
+            int first = path.size();
+            while (first > 0 && indexOf(path.get(first - 1).top, term) >= 0) {
+                first--;
+            }
+            List<Node> affected = new ArrayList<>(path.subList(first, path.size()));
+            if (term.count == 0) {
+                path.get(path.size() - 1).removeTerminal(term);
+                prune(path);
+            }
+            for (int i = affected.size() - 1; i >= 0; i--) {
+                Node node = affected.get(i);
+                if (path.contains(node)) {
+                    recompute(node, term);
+                }
+            }
+        }
+        if (term.count == 0) {
+            terms.remove(term.id);
+        }
+    }
+
+    // Claves de un término: el texto completo y, en títulos y autores, desde el inicio de cada palabra.
+    private static List<String> keys(Term term) {
+        List<String> keys = new ArrayList<>();
+        keys.add(term.normalized);
+        if (term.kind != Kind.TAG) {
+            int words = 1;
+            for (int i = 1; i < term.normalized.length() && words < MAX_KEY_WORDS; i++) {
+                if (term.normalized.charAt(i - 1) == ' ') {
+                    keys.add(term.normalized.substring(i));
+                    words++;
+                }
+            }
+        }
+        return keys;
+    }
+
+    // Inserta una clave dividiendo aristas cuando comparte solo una parte.
+    private void insert(String key, Term term) {
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                Node leaf = new Node(key.substring(i));
+                node.addChild(leaf);
+                node = leaf;
+                break;
+            }
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                Node middle = new Node(child.label.substring(0, common));
+                middle.top = child.top;
+                node.removeChild(child);
+                child.label = child.label.substring(common);
+                middle.addChild(child);
+                node.addChild(middle);
+                child = middle;
+            }
+            node = child;
+            i += common;
+        }
+        node.addTerminal(term);
+    }
+
+    // Camino desde la raíz hasta el nodo de una clave existente.
+    private List<Node> find(String key) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            node = node.child(key.charAt(i));
+            path.add(node);
+            i += node.label.length();
+        }
+        return path;
+    }
+
+    // Un término que subió de popularidad solo puede entrar o subir en las listas del camino.
+    private static void promote(List<Node> path, Term term) {
+        for (Node node : path) {
+            Term[] top = node.top;
+            int index = indexOf(top, term);
+            if (index < 0) {
+                if (top.length == TOP_K && RANKING.compare(term, top[TOP_K - 1]) >= 0) {
+                    continue;
+                }
+                top = Arrays.copyOf(top, Math.min(TOP_K, top.length + 1));
+                index = top.length - 1;
+                top[index] = term;
+            }
+            while (index > 0 && RANKING.compare(top[index], top[index - 1]) < 0) {
+                Term swap = top[index - 1];
+                top[index - 1] = top[index];
+                top[index] = swap;
+                index--;
+            }
+            node.top = top;
+        }
+    }
+
+    // Recalcula la lista de un nodo mezclando sus términos propios con las listas de los hijos.
+    // Las listas de los hijos están ordenadas, así que cada una se lee solo mientras mejora la
+    // lista; la excepción es el término que bajó, que puede estar fuera de lugar en un hijo aún
+    // no recalculado (otra de sus claves).
+    private static void recompute(Node node, Term changed) {
+        Term[] top = new Term[TOP_K];
+        int size = 0;
+        for (Term term : node.terminals) {
+            size = offer(top, size, term);
+        }
+        for (Node child : node.children) {
+            for (Term term : child.top) {
+                if (size == TOP_K && term != changed && RANKING.compare(term, top[TOP_K - 1]) >= 0) {
+                    break;
+                }
+                size = offer(top, size, term);
+            }
+        }
+        node.top = size == TOP_K ? top : Arrays.copyOf(top, size);
+    }
+
+    // Inserta un término en una lista ordenada de a lo sumo TOP_K (sin repetir); devuelve el nuevo tamaño.
+    private static int offer(Term[] top, int size, Term term) {
+        if (size == TOP_K && RANKING.compare(term, top[TOP_K - 1]) >= 0) {
+            return size;
+        }
+        if (indexOf(top, term) >= 0) {
+            return size;
+        }
+        int index = size < TOP_K ? size++ : TOP_K - 1;
+        while (index > 0 && RANKING.compare(term, top[index - 1]) < 0) {
+            top[index] = top[index - 1];
+            index--;
+        }
+        top[index] = term;
+        return size;
+    }
+
+    // Quita nodos vacíos y fusiona los que quedan con un solo hijo (mantiene el trie comprimido).
+    private static void prune(List<Node> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            Node parent = path.get(i - 1);
+            if (node.terminals.length > 0) {
+                return;
+            }
+            if (node.children.length == 0) {
+                parent.removeChild(node);
+                path.remove(i);
+            } else if (node.children.length == 1) {
+                Node child = node.children[0];
+                node.label = node.label + child.label;
+                node.children = child.children;
+                node.terminals = child.terminals;
+                node.top = child.top;
+                if (i + 1 < path.size()) {
+                    path.remove(i + 1);
+                }
+                return;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static int indexOf(Term[] top, Term term) {
+        for (int i = 0; i < top.length; i++) {
+            if (top[i] == term) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    // Nodo del trie: los hijos se ordenan por su primer carácter para buscar en forma binaria.
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Term[] NO_TERMS = new Term[0];
+
+        String label;
+        Node[] children = NO_CHILDREN;
+        Term[] terminals = NO_TERMS;
+        Term[] top = NO_TERMS;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char first = children[mid].label.charAt(0);
+                if (first < c) {
+                    low = mid + 1;
+                } else if (first > c) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        void addChild(Node child) {
+            char c = child.label.charAt(0);
+            int position = 0;
+            while (position < children.length && children[position].label.charAt(0) < c) {
+                position++;
+            }
+            Node[] next = new Node[children.length + 1];
+            System.arraycopy(children, 0, next, 0, position);
+            next[position] = child;
+            System.arraycopy(children, position, next, position + 1, children.length - position);
+            children = next;
+        }
+
+        void removeChild(Node child) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == child) {
+                    Node[] next = new Node[children.length - 1];
+                    System.arraycopy(children, 0, next, 0, i);
+                    System.arraycopy(children, i + 1, next, i, children.length - i - 1);
+                    children = next;
+                    return;
+                }
+            }
+        }
+
+        void addTerminal(Term term) {
+            if (indexOf(terminals, term) < 0) {
+                terminals = Arrays.copyOf(terminals, terminals.length + 1);
+                terminals[terminals.length - 1] = term;
+            }
+        }
+
+        void removeTerminal(Term term) {
+            int index = indexOf(terminals, term);
+            if (index >= 0) {
+                Term[] next = new Term[terminals.length - 1];
+                System.arraycopy(terminals, 0, next, 0, index);
+                System.arraycopy(terminals, index + 1, next, index, terminals.length - index - 1);
+                terminals = next;
+            }
+        }
+    }
+
+    // Término indexado con su popularidad (solo se modifica con el monitor del índice)
+    private static final class Term {
+        final String id;
+        final Kind kind;
+        final String display;
+        final String normalized;
+        int count;
+
+        Term(String id, Kind kind, String display, String normalized) {
+            this.id = id;
+            this.kind = kind;
+            this.display = display;
+            this.normalized = normalized;
+        }
+    }
+
+    // Sugerencia devuelta al completar
+    public static final class Completion {
+        private final String text;
+        private final Kind kind;
+        private final int count;
+
+        Completion(String text, Kind kind, int count) {
+            this.text = text;
+            this.kind = kind;
+            this.count = count;
+        }
+
+        public String getText() { return text; }
+        public Kind getKind() { return kind; }
+        public int getCount() { return count; }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package controller;
+
+import model.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Generador de catálogos sintéticos para pruebas de carga.
+// Cada contenido se deriva solo de la semilla y de su índice, así que el catálogo
+// es el mismo sin importar cuántos hilos lo generen (salvo ids y fechas, que son reales).
+public class CatalogGenerator {
+    private static final int CHUNK_SIZE = 4096;
+    private static final String[] WORDS = {
+            "introducción", "java", "cálculo", "diferencial", "física", "diseño", "música",
+            "teoría", "práctica", "avanzado", "básico", "tutorial", "guía", "análisis",
+            "programación", "objetos", "polimorfismo", "herencia", "álgebra", "armonía",
+            "grabación", "audio", "mezcla", "iluminación", "cámara", "edición", "color",
+            "ritmo", "geometría", "energía", "movimiento", "tipografía", "composición", "sonido"
+    };
+    private static final String[] RESOLUTIONS = {"720p", "1080p", "4K"};
+    private static final String[] FORMATS = {"PNG", "JPG", "GIF"};
+
+    private final Config config;
+    private final List<Category> categories;
+    private final List<Tag> tags;
+    private final List<String> authors;
+    private final double[] tagCdf;
+
+    // Constructor: crea el árbol de categorías, las etiquetas y los autores.
+    // Si roots está vacía se crean config.getRootCategories() raíces nuevas.
+    public CatalogGenerator(Config config, List<Category> roots) {
+        this.config = config;
+        this.categories = new ArrayList<>();
+        this.tags = new ArrayList<>(config.getTagCount());
+        this.authors = new ArrayList<>(config.getAuthorCount());
+
+        List<Category> level = new ArrayList<>(roots);
+        if (level.isEmpty()) {
+            for (int i = 0; i < config.getRootCategories(); i++) {
+                level.add(new Category("Categoría " + i, "Categoría generada"));
+            }
+        }
+        categories.addAll(level);
+        for (int depth = 1; depth < config.getCategoryDepth(); depth++) {
+            List<Category> next = new ArrayList<>();
+            for (Category parent : level) {
+                for (int i = 0; i < config.getCategoryBranching(); i++) {
+                    Category child = new Category(parent.getName() + "." + i, "Subcategoría generada");
+                    parent.addSubcategory(child);
+                    next.add(child);
+                }
+            }
+            categories.addAll(next);
+            level = next;
+        }
+
+        for (int i = 0; i < config.getTagCount(); i++) {
+            tags.add(Tag.of("tema" + i));
+        }
+        for (int i = 0; i < config.getAuthorCount(); i++) {
+            authors.add("Autor " + i);
+        }
+
+        // Distribución de Zipf: la etiqueta de rango k tiene peso 1 / k^s
+        tagCdf = new double[tags.size()];
+        double total = 0;
+        for (int k = 0; k < tagCdf.length; k++) {
+            total += 1.0 / Math.pow(k + 1, config.getTagZipfExponent());
+            tagCdf[k] = total;
+        }
+        for (int k = 0; k < tagCdf.length; k++) {
+            tagCdf[k] /= total;
+        }
+    }
+
+    // Genera el catálogo completo en paralelo y lo agrega al controlador en un solo lote.
+    public List<Content> generate(ContentController controller) {
+        List<Content> contents = generateContents();
+        addTo(controller, contents);
+        return contents;
+    }
+
+    // Genera los contenidos en paralelo sin agregarlos a ningún controlador.
+    public List<Content> generateContents() {
+        int size = config.getSize();
+        Content[] result = new Content[size];
+        int threads = Math.max(1, config.getParallelism());
+        if (threads == 1 || size <= CHUNK_SIZE) {
+            fill(result, 0, size);
+            return Arrays.asList(result);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "catalog-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int from = 0; from < size; from += CHUNK_SIZE) {
+                int start = from;
+                int end = Math.min(size, from + CHUNK_SIZE);
+                tasks.add(() -> {
+                    fill(result, start, end);
+                    return null;
+                });
+            }
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Generación interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error al generar el catálogo", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return Arrays.asList(result);
+    }
+
+    // Agrega contenidos ya generados al controlador (debe llamarse desde un solo hilo).
+    public void addTo(ContentController controller, List<Content> contents) {
+        controller.registerCategories(categories);
+        controller.beginBatch();
+        try {
+            for (Content content : contents) {
+                controller.create(content);
+            }
+        } finally {
+            controller.endBatch();
+        }
+    }
+
+    // Crea el contenido de un índice; siempre produce el mismo resultado para la misma semilla.
+    public Content createContent(long index) {
+        SplittableRandom random = new SplittableRandom(mix(config.getSeed(), index));
+        String title = capitalize(word(random)) + " " + word(random) + " " + word(random) + " " + index;
+        String author = authors.get(random.nextInt(authors.size()));
+        Category category = categories.get(random.nextInt(categories.size()));
+
+        Content content;
+        int kind = random.nextInt(100);
+        if (kind < config.getArticlePercent()) {
+            content = new Article(title, author, category, text(random, articleWords(random)));
+        } else if (kind < config.getArticlePercent() + config.getVideoPercent()) {
+            content = new Video(title, author, category, "https://example.com/video/" + index + ".mp4",
+                    30 + random.nextInt(7200), RESOLUTIONS[random.nextInt(RESOLUTIONS.length)]);
+        } else {
+            content = new Image(title, author, category, "https://example.com/image/" + index + ".png",
+                    (320 + random.nextInt(3500)) + "x" + (240 + random.nextInt(2200)),
+                    FORMATS[random.nextInt(FORMATS.length)]);
+        }
+
+        int tagCount = tags.isEmpty() ? 0 : random.nextInt(config.getMaxTagsPerContent() + 1);
+        for (int i = 0; i < tagCount; i++) {
+            content.addTag(tags.get(zipfRank(random)));
+        }
+        if (random.nextInt(100) < config.getPublishedPercent()) {
+            content.publish();
+        }
+        return content;
+    }
+
+    private void fill(Content[] result, int from, int to) {
+        for (int i = from; i < to; i++) {
+            result[i] = createContent(i);
+        }
+    }
+
+    // Longitud de artículo con distribución log-normal (muchos textos cortos, pocos muy largos)
+    private int articleWords(SplittableRandom random) {
+        double gaussian = gaussian(random);
+        double words = config.getArticleWordsMedian() * Math.exp(config.getArticleWordsSigma() * gaussian);
+        return (int) Math.max(10, Math.min(config.getArticleWordsMax(), words));
+    }
+
+    private int zipfRank(SplittableRandom random) {
+        int position = Arrays.binarySearch(tagCdf, random.nextDouble());
+        return Math.min(tagCdf.length - 1, position >= 0 ? position : -position - 1);
+    }
+
+    private static String text(SplittableRandom random, int words) {
+        StringBuilder sb = new StringBuilder(words * 9);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(i % 12 == 0 ? ". " : " ");
+            }
+            sb.append(word(random));
+        }
+        return sb.append('.').toString();
+    }
+
+    private static String word(SplittableRandom random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    // Normal estándar por Box-Muller
+    private static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+
+    // Mezcla semilla e índice (finalizador de SplitMix64)
+    private static long mix(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Getters
+    public Config getConfig() { return config; }
+    public List<Category> getCategories() { return categories; }
+    public List<Tag> getTags() { return tags; }
+    public List<String> getAuthors() { return authors; }
+
+    // Parámetros del catálogo; los setters devuelven la misma configuración para encadenarlos.
+    public static class Config {
+        private int size = 10_000;
+        private long seed = 42L;
+        private int articlePercent = 60;
+        private int videoPercent = 25;
+        private int publishedPercent = 50;
+        private int rootCategories = 5;
+        private int categoryDepth = 2;
+        private int categoryBranching = 4;
+        private int tagCount = 200;
+        private double tagZipfExponent = 1.1;
+        private int maxTagsPerContent = 3;
+        private int authorCount = 500;
+        private int articleWordsMedian = 150;
+        private double articleWordsSigma = 0.8;
+        private int articleWordsMax = 5000;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        public int getSize() { return size; }
+        public Config setSize(int size) { this.size = requireNonNegative(size, "size"); return this; }
+        public long getSeed() { return seed; }
+        public Config setSeed(long seed) { this.seed = seed; return this; }
+        public int getArticlePercent() { return articlePercent; }
+        public int getVideoPercent() { return videoPercent; }
+
+        // Porcentajes de artículos y videos; el resto son imágenes
+        public Config setTypeMix(int articlePercent, int videoPercent) {
+            if (articlePercent < 0 || videoPercent < 0 || articlePercent + videoPercent > 100) {
+                throw new IllegalArgumentException("Mezcla de tipos inválida: " + articlePercent + "/" + videoPercent);
+            }
+            this.articlePercent = articlePercent;
+            this.videoPercent = videoPercent;
+            return this;
+        }
+
+        public int getPublishedPercent() { return publishedPercent; }
+        public Config setPublishedPercent(int percent) { this.publishedPercent = requirePercent(percent); return this; }
+        public int getRootCategories() { return rootCategories; }
+        public Config setRootCategories(int count) { this.rootCategories = requirePositive(count, "rootCategories"); return this; }
+        public int getCategoryDepth() { return categoryDepth; }
+        public Config setCategoryDepth(int depth) { this.categoryDepth = requirePositive(depth, "categoryDepth"); return this; }
+        public int getCategoryBranching() { return categoryBranching; }
+        public Config setCategoryBranching(int branching) { this.categoryBranching = requireNonNegative(branching, "categoryBranching"); return this; }
+        public int getTagCount() { return tagCount; }
+        public Config setTagCount(int count) { this.tagCount = requireNonNegative(count, "tagCount"); return this; }
+        public double getTagZipfExponent() { return tagZipfExponent; }
+        public Config setTagZipfExponent(double exponent) { this.tagZipfExponent = exponent; return this; }
+        public int getMaxTagsPerContent() { return maxTagsPerContent; }
+        public Config setMaxTagsPerContent(int max) { this.maxTagsPerContent = requireNonNegative(max, "maxTagsPerContent"); return this; }
+        public int getAuthorCount() { return authorCount; }
+        public Config setAuthorCount(int count) { this.authorCount = requirePositive(count, "authorCount"); return this; }
+        public int getArticleWordsMedian() { return articleWordsMedian; }
+        public double getArticleWordsSigma() { return articleWordsSigma; }
+        public int getArticleWordsMax() { return articleWordsMax; }
+
+        // Longitud de los artículos: mediana, dispersión log-normal y máximo en palabras
+        public Config setArticleLength(int median, double sigma, int max) {
+            this.articleWordsMedian = requirePositive(median, "median");
+            this.articleWordsSigma = Math.max(0, sigma);
+            this.articleWordsMax = requirePositive(max, "max");
+            return this;
+        }
+
+        public int getParallelism() { return parallelism; }
+        public Config setParallelism(int parallelism) { this.parallelism = requirePositive(parallelism, "parallelism"); return this; }
+
+        private static int requirePositive(int value, String name) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " debe ser mayor que cero");
+            }
+            return value;
+        }
+
+        private static int requireNonNegative(int value, String name) {
+            if (value < 0) {
+                throw new IllegalArgumentException(name + " no puede ser negativo");
+            }
+            return value;
+        }
+
+        private static int requirePercent(int value) {
+            if (value < 0 || value > 100) {
+                throw new IllegalArgumentException("Porcentaje inválido: " + value);
+            }
+            return value;
+        }
+    }
+}
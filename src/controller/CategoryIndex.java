@@ -0,0 +1,236 @@
+package controller;
+
+import model.Category;
+import model.Content;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Índice del árbol de categorías basado en un recorrido de Euler.
+// Cada subárbol ocupa un intervalo continuo [entrada, salida], por lo que consultar
+// "una categoría y todas sus subcategorías" es un rango, y los conteos por subárbol
+// se mantienen en un árbol de Fenwick que se actualiza en O(log n) por cambio.
+public class CategoryIndex {
+    private final Map<Category, Map<String, Content>> contentByCategory;
+    private final Map<String, Category> categoryByContentId;
+    private final Set<Category> roots;
+
+    // Datos del recorrido (se reconstruyen cuando cambia la estructura)
+    private Map<Category, Integer> entry;
+    private int[] exit;
+    private Category[] order;
+    private long[] fenwick;
+    private int builtVersion;
+    private boolean dirty;
+
+    // Constructor de un índice vacío.
+    public CategoryIndex() {
+        this.contentByCategory = new HashMap<>();
+        this.categoryByContentId = new HashMap<>();
+        this.roots = new LinkedHashSet<>();
+        this.entry = new HashMap<>();
+        this.exit = new int[0];
+        this.order = new Category[0];
+        this.fenwick = new long[1];
+        this.dirty = true;
+    }
+
+    // Registra una categoría (y el árbol al que pertenece) aunque no tenga contenidos.
+    public synchronized void register(Category category) {
+        if (category != null && roots.add(rootOf(category))) {
+            dirty = true;
+        }
+    }
+
+    // Agrega un contenido al índice.
+    public synchronized void add(Content content) {
+        Category category = content.getCategory();
+        if (category == null) {
+            return;
+        }
+        register(category);
+        Map<String, Content> bucket = contentByCategory.computeIfAbsent(category, c -> new LinkedHashMap<>());
+        if (bucket.put(content.getId(), content) == null) {
+            categoryByContentId.put(content.getId(), category);
+            adjust(category, 1);
+        }
+    }
+
+    // Actualiza un contenido; si cambió de categoría se mueve al nuevo subárbol.
+    public synchronized void update(Content content) {
+        Category previous = categoryByContentId.get(content.getId());
+        if (previous == content.getCategory()) {
+            if (previous != null) {
+                contentByCategory.get(previous).put(content.getId(), content);
+            }
+            return;
+        }
+        remove(content.getId());
+        add(content);
+    }
+
+    // Elimina un contenido del índice.
+    public synchronized void remove(String contentId) {
+        Category category = categoryByContentId.remove(contentId);
+        if (category == null) {
+            return;
+        }
+        Map<String, Content> bucket = contentByCategory.get(category);
+        if (bucket != null && bucket.remove(contentId) != null) {
+            if (bucket.isEmpty()) {
+                contentByCategory.remove(category);
+            }
+            adjust(category, -1);
+        }
+    }
+
+    // Obtiene todos los contenidos de la categoría y de sus subcategorías.
+    public synchronized List<Content> getSubtreeContent(Category category) {
+        ensureBuilt(category);
+        int from = entry.get(category);
+        int to = exit[from];
+        List<Content> result = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            Map<String, Content> bucket = contentByCategory.get(order[i]);
+            if (bucket != null) {
+                result.addAll(bucket.values());
+            }
+        }
+        return result;
+    }
+
+    // Cuenta los contenidos de la categoría y sus subcategorías en O(log n).
+    public synchronized long countSubtree(Category category) {
+        ensureBuilt(category);
+        int from = entry.get(category);
+        return prefixSum(exit[from] + 1) - prefixSum(from);
+    }
+
+    // Obtiene la categoría y todas sus subcategorías en orden de recorrido.
+    public synchronized List<Category> getSubtree(Category category) {
+        ensureBuilt(category);
+        int from = entry.get(category);
+        List<Category> result = new ArrayList<>(exit[from] - from + 1);
+        for (int i = from; i <= exit[from]; i++) {
+            result.add(order[i]);
+        }
+        return result;
+    }
+
+    // Verifica si descendant pertenece al subárbol de ancestor en O(1).
+    public synchronized boolean isInSubtree(Category descendant, Category ancestor) {
+        ensureBuilt(ancestor);
+        Integer position = entry.get(descendant);
+        if (position == null) {
+            return false;
+        }
+        int from = entry.get(ancestor);
+        return position >= from && position <= exit[from];
+    }
+
+    private void adjust(Category category, int delta) {
+        if (dirty || builtVersion != Category.getStructureVersion()) {
+            dirty = true;
+            return;
+        }
+        Integer position = entry.get(category);
+        if (position == null) {
+            dirty = true;
+            return;
+        }
+        for (int i = position + 1; i < fenwick.length; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+
+    private long prefixSum(int count) {
+        long sum = 0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += fenwick[i];
+        }
+        return sum;
+    }
+
+    private void ensureBuilt(Category category) {
+        register(category);
+        if (dirty || builtVersion != Category.getStructureVersion()) {
+            rebuild();
+        }
+    }
+
+    // Reconstruye el recorrido de Euler y el árbol de Fenwick en O(n).
+    private void rebuild() {
+        int version = Category.getStructureVersion();
+
+        // Las raíces pudieron dejar de serlo si se movieron bajo otra categoría
+        Set<Category> currentRoots = new LinkedHashSet<>();
+        for (Category root : roots) {
+            currentRoots.add(rootOf(root));
+        }
+        roots.clear();
+        roots.addAll(currentRoots);
+
+        List<Category> visit = new ArrayList<>();
+        Map<Category, Integer> positions = new HashMap<>();
+        List<Integer> exits = new ArrayList<>();
+        ArrayDeque<Object[]> stack = new ArrayDeque<>();
+        for (Category root : roots) {
+            stack.push(new Object[]{root, 0});
+            positions.put(root, visit.size());
+            visit.add(root);
+            exits.add(0);
+            while (!stack.isEmpty()) {
+                Object[] frame = stack.peek();
+                Category current = (Category) frame[0];
+                int child = (Integer) frame[1];
+                List<Category> children = current.getSubcategories();
+                if (child < children.size()) {
+                    frame[1] = child + 1;
+                    Category next = children.get(child);
+                    positions.put(next, visit.size());
+                    visit.add(next);
+                    exits.add(0);
+                    stack.push(new Object[]{next, 0});
+                } else {
+                    stack.pop();
+                    exits.set(positions.get(current), visit.size() - 1);
+                }
+            }
+        }
+
+        int n = visit.size();
+        order = visit.toArray(new Category[0]);
+        exit = new int[n];
+        for (int i = 0; i < n; i++) {
+            exit[i] = exits.get(i);
+        }
+        entry = positions;
+
+        // Construcción lineal del árbol de Fenwick a partir de los conteos directos
+        fenwick = new long[n + 1];
+        for (int i = 0; i < n; i++) {
+            Map<String, Content> bucket = contentByCategory.get(order[i]);
+            fenwick[i + 1] += bucket != null ? bucket.size() : 0;
+            int parent = (i + 1) + ((i + 1) & -(i + 1));
+            if (parent <= n) {
+                fenwick[parent] += fenwick[i + 1];
+            }
+        }
+
+        builtVersion = version;
+        dirty = false;
+    }
+
+    private static Category rootOf(Category category) {
+        Category root = category;
+        while (root.getParentCategory() != null) {
+            root = root.getParentCategory();
+        }
+        return root;
+    }
+}
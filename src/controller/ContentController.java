@@ -2,20 +2,106 @@ package controller;
 
 import interfaces.IManageable;
 import interfaces.ISearchable;
+import metrics.MetricsRegistry;
+import metrics.OperationMetrics;
 import model.*;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 // Controlador que gestiona la creación, edición, eliminación y búsqueda de contenidos.
+// Es seguro entre hilos: las lecturas comparten un candado de lectura y los cambios
+// toman el de escritura; los listeners se notifican ya sin el candado de escritura.
+// Los permisos se verifican con el usuario de actAs en el hilo que llama, o con el
+// usuario actual (setCurrentUser) si el hilo no actúa en nombre de nadie.
 public class ContentController implements IManageable<Content>, ISearchable<Content> {
+    // Métricas por operación (se resuelven una vez para no buscarlas en cada llamada)
+    private static final OperationMetrics CREATE_METRICS = metric("create");
+    private static final OperationMetrics EDIT_METRICS = metric("edit");
+    private static final OperationMetrics DELETE_METRICS = metric("delete");
+    private static final OperationMetrics RETAG_METRICS = metric("retag");
+    private static final OperationMetrics GET_BY_ID_METRICS = metric("getById");
+    private static final OperationMetrics PUBLISH_METRICS = metric("publish");
+    private static final OperationMetrics UNPUBLISH_METRICS = metric("unpublish");
+    private static final OperationMetrics SCHEDULED_METRICS = metric("scheduledDispatch");
+    private static final OperationMetrics SEARCH_METRICS = metric("searchByKeyword");
+    private static final OperationMetrics FUZZY_SEARCH_METRICS = metric("searchFuzzy");
+    private static final OperationMetrics FILTER_CATEGORY_METRICS = metric("filterByCategory");
+    private static final OperationMetrics FILTER_CATEGORY_TREE_METRICS = metric("filterByCategoryTree");
+    private static final OperationMetrics FILTER_TYPE_METRICS = metric("filterByType");
+    private static final OperationMetrics FILTER_TAG_METRICS = metric("filterByTag");
+    private static final OperationMetrics SUGGEST_METRICS = metric("suggest");
+    private static final OperationMetrics PAGE_METRICS = metric("getPage");
+    private static final OperationMetrics SORTED_METRICS = metric("getAllContentSorted");
+    private static final OperationMetrics DATE_RANGE_METRICS = metric("findByDateRange");
+    private static final OperationMetrics STALE_DRAFTS_METRICS = metric("getStaleDrafts");
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    
+    // Contenidos en orden de creación. Eliminar deja un hueco (null) en vez de desplazar la
+    // lista, y los huecos se compactan cuando llegan a la mitad: editar y eliminar cuestan O(1)
+    // amortizado y copiar el catálogo sigue siendo copiar un arreglo.
     private List<Content> contentList;
-    private User currentUser;
+    // Posición de cada contenido en contentList
+    private Map<String, Integer> slotById;
+    private int holes;
+    private CategoryIndex categoryIndex;
+    private final AutocompleteIndex autocomplete;
+    private final FuzzyIndex fuzzyIndex;
+    private final SortIndex sortIndex;
+    private final DateIndex dateIndex;
+    private final ActivityCounters activity;
+    private final ContentCube cube;
+    private final ContentSketches sketches;
+    private volatile User currentUser;
+    private final ThreadLocal<User> actingUser;
+    private final LongAdder deniedCount;
+    private List<ContentListener> listeners;
+    private Map<String, ContentEvent> pendingEvents;
+    private int batchDepth;
+    private final ReadWriteLock lock;
+    private volatile PublishScheduler scheduler;
     
     // Constructor de ContentController.
     public ContentController() {
         this.contentList = new ArrayList<>();
+        this.slotById = new HashMap<>();
+        this.holes = 0;
+        this.categoryIndex = new CategoryIndex();
+        this.autocomplete = new AutocompleteIndex();
+        this.fuzzyIndex = new FuzzyIndex();
+        this.sortIndex = new SortIndex();
+        this.dateIndex = new DateIndex();
         this.currentUser = null;
+        this.actingUser = new ThreadLocal<>();
+        this.deniedCount = new LongAdder();
+        this.listeners = new CopyOnWriteArrayList<>();
+        // Los agregados se suscriben antes que nadie para no perder ningún cambio
+        this.activity = new ActivityCounters();
+        this.listeners.add(activity);
+        this.cube = new ContentCube();
+        this.listeners.add(cube);
+        this.sketches = new ContentSketches();
+        this.listeners.add(sketches);
+        this.pendingEvents = new LinkedHashMap<>();
+        this.batchDepth = 0;
+        this.lock = new ReentrantReadWriteLock();
     }
     
     // Establece el usuario actual para verificar permisos.
@@ -23,142 +109,769 @@ public class ContentController implements IManageable<Content>, ISearchable<Cont
         this.currentUser = user;
     }
     
+    // Ejecuta una acción verificando los permisos con user en lugar del usuario actual
+    // (solo en este hilo). Así varios usuarios comparten el controlador, cada uno con su rol.
+    public <T> T actAs(User user, Supplier<T> action) {
+        if (user == null) {
+            throw new IllegalArgumentException("El usuario no puede ser nulo");
+        }
+        User previous = actingUser.get();
+        actingUser.set(user);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                actingUser.set(previous);
+            } else {
+                actingUser.remove();
+            }
+        }
+    }
+    
+    // Igual que actAs, para acciones sin resultado.
+    public void actAs(User user, Runnable action) {
+        actAs(user, () -> {
+            action.run();
+            return null;
+        });
+    }
+    
+    // Cantidad de operaciones rechazadas por falta de permiso.
+    public long getDeniedCount() {
+        return deniedCount.sum();
+    }
+    
     // Crea un nuevo contenido.
     @Override
     public void create(Content content) {
-        if (currentUser != null && currentUser.getPermissions().contains("CREATE")) {
-            contentList.add(content);
-        }
+        CREATE_METRICS.run(() -> {
+            List<ContentEvent> events = null;
+            lock.writeLock().lock();
+            try {
+                // Un id que ya está en el catálogo se ignora: duplicaría la fila, los contadores y los índices
+                if (allowed(Permission.CREATE) && !slotById.containsKey(content.getId())) {
+                    slotById.put(content.getId(), contentList.size());
+                    contentList.add(content);
+                    // Se cuenta al entrar al catálogo y se descuenta al eliminarlo (ver delete)
+                    content.attach();
+                    categoryIndex.add(content);
+                    autocomplete.add(content);
+                    fuzzyIndex.add(content);
+                    sortIndex.add(content);
+                    dateIndex.add(content);
+                    fireEvent(ContentEvent.Type.CREATED, content);
+                    events = drainEvents();
+                }
+            } finally {
+                unlockAndNotify(events);
+            }
+        });
     }
     
     // Edita un contenido existente.
     @Override
     public void edit(Content content) {
-        if (currentUser != null && currentUser.getPermissions().contains("EDIT")) {
-            Content existing = getById(content.getId());
-            if (existing != null) {
-                int index = contentList.indexOf(existing);
-                contentList.set(index, content);
+        EDIT_METRICS.run(() -> {
+            List<ContentEvent> events = null;
+            lock.writeLock().lock();
+            try {
+                if (allowed(Permission.EDIT)) {
+                    Integer slot = slotById.get(content.getId());
+                    if (slot != null) {
+                        // Una copia confirmada pasa a contar en lugar del original
+                        Content previous = contentList.set(slot, content);
+                        if (previous != content) {
+                            previous.detach();
+                            content.attach();
+                        }
+                        categoryIndex.update(content);
+                        autocomplete.update(content);
+                        fuzzyIndex.update(content);
+                        sortIndex.update(content);
+                        dateIndex.update(content);
+                        fireEvent(ContentEvent.Type.UPDATED, content);
+                        events = drainEvents();
+                    }
+                }
+            } finally {
+                unlockAndNotify(events);
             }
-        }
+        });
     }
     
     // Elimina un contenido por su ID.
     @Override
     public boolean delete(String id) {
-        if (currentUser != null && currentUser.getPermissions().contains("DELETE")) {
-            Content content = getById(id);
-            if (content != null) {
-                // Decrementar contadores
-                content.getCategory().decrementContentCount();
-                for (Tag tag : content.getTags()) {
-                    tag.decrementUsage();
+        return DELETE_METRICS.time(() -> {
+            List<ContentEvent> events = null;
+            boolean removed = false;
+            lock.writeLock().lock();
+            try {
+                if (allowed(Permission.DELETE)) {
+                    Integer slot = slotById.remove(id);
+                    Content content = slot != null ? contentList.set(slot, null) : null;
+                    if (content != null) {
+                        holes++;
+                        compactIfSparse();
+                        // Decrementar contadores
+                        content.detach();
+                        categoryIndex.remove(id);
+                        autocomplete.remove(id);
+                        fuzzyIndex.remove(id);
+                        sortIndex.remove(id);
+                        dateIndex.remove(id);
+                        PublishScheduler current = scheduler;
+                        if (current != null) {
+                            current.cancel(id, PublishScheduler.Action.PUBLISH);
+                            current.cancel(id, PublishScheduler.Action.UNPUBLISH);
+                        }
+                        removed = true;
+                        fireEvent(ContentEvent.Type.DELETED, content);
+                        events = drainEvents();
+                    }
                 }
-                return contentList.remove(content);
+            } finally {
+                unlockAndNotify(events);
             }
-        }
-        return false;
+            return removed;
+        });
+    }
+    
+    // Reemplaza una etiqueta por otra en todos los contenidos que la usan (por ejemplo, para
+    // renombrarla: las etiquetas son inmutables). Devuelve cuántos contenidos cambiaron.
+    public int retag(Tag from, Tag to) {
+        return RETAG_METRICS.time(() -> {
+            List<ContentEvent> events = null;
+            int changed = 0;
+            lock.writeLock().lock();
+            try {
+                if (from != null && to != null && !from.equals(to) && allowed(Permission.EDIT)) {
+                    for (Content content : contentList) {
+                        if (content != null && content.getTags().contains(from)) {
+                            content.removeTag(from);
+                            content.addTag(to);
+                            autocomplete.update(content);
+                            fireEvent(ContentEvent.Type.UPDATED, content);
+                            changed++;
+                        }
+                    }
+                    events = drainEvents();
+                }
+            } finally {
+                unlockAndNotify(events);
+            }
+            return changed;
+        });
     }
     
     // Obtiene un contenido por su ID.
     @Override
     public Content getById(String id) {
-        return contentList.stream()
-                .filter(c -> c.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+        return GET_BY_ID_METRICS.time(() -> {
+            lock.readLock().lock();
+            try {
+                return find(id);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+    
+    // Indica si el id está en el catálogo. No cuenta en las métricas de getById: es para
+    // comprobaciones internas (por ejemplo, la ingesta), no para lecturas de los usuarios.
+    public boolean contains(String id) {
+        lock.readLock().lock();
+        try {
+            return slotById.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
     
     // Publica un contenido.
     public boolean publishContent(String id) {
-        if (currentUser != null && currentUser.getPermissions().contains("PUBLISH")) {
-            Content content = getById(id);
-            if (content != null && !content.isPublished()) {
-                content.publish(); // Polimorfismo: llama al método específico
-                return true;
+        return PUBLISH_METRICS.time(() -> {
+            List<ContentEvent> events = null;
+            boolean published = false;
+            lock.writeLock().lock();
+            try {
+                if (allowed(Permission.PUBLISH)) {
+                    Content content = find(id);
+                    if (content != null && !content.isPublished()) {
+                        content.publish(); // Polimorfismo: llama al método específico
+                        if (content.isPublished()) {
+                            sortIndex.update(content);
+                            dateIndex.update(content);
+                            published = true;
+                            fireEvent(ContentEvent.Type.PUBLISHED, content);
+                            events = drainEvents();
+                        }
+                    }
+                }
+            } finally {
+                unlockAndNotify(events);
             }
-        }
-        return false;
+            return published;
+        });
     }
     
     // Despublica un contenido.
     public boolean unpublishContent(String id) {
-        if (currentUser != null && currentUser.getPermissions().contains("PUBLISH")) {
-            Content content = getById(id);
-            if (content != null && content.isPublished()) {
-                content.unpublish();
-                return true;
+        return UNPUBLISH_METRICS.time(() -> {
+            List<ContentEvent> events = null;
+            boolean unpublished = false;
+            lock.writeLock().lock();
+            try {
+                if (allowed(Permission.PUBLISH)) {
+                    Content content = find(id);
+                    if (content != null && content.isPublished()) {
+                        content.unpublish();
+                        sortIndex.update(content);
+                        dateIndex.update(content);
+                        unpublished = true;
+                        fireEvent(ContentEvent.Type.UNPUBLISHED, content);
+                        events = drainEvents();
+                    }
+                }
+            } finally {
+                unlockAndNotify(events);
             }
+            return unpublished;
+        });
+    }
+    
+    // Inicia la programación de publicaciones; journal guarda las tareas entre reinicios (puede ser null).
+    public synchronized void startScheduler(Path journal) throws IOException {
+        if (scheduler == null) {
+            PublishScheduler created = new PublishScheduler(journal, this::applyScheduled);
+            created.start();
+            scheduler = created;
         }
-        return false;
     }
     
-    // Busca contenidos por palabra clave en título o autor.
+    // Detiene la programación de publicaciones (las tareas quedan en el diario).
+    public synchronized void stopScheduler() {
+        if (scheduler != null) {
+            scheduler.stop();
+            scheduler = null;
+        }
+    }
+    
+    // Programa la publicación de un contenido para una fecha futura.
+    public boolean schedulePublish(String id, Date when) {
+        return schedule(id, PublishScheduler.Action.PUBLISH, when);
+    }
+    
+    // Programa la despublicación de un contenido para una fecha futura.
+    public boolean scheduleUnpublish(String id, Date when) {
+        return schedule(id, PublishScheduler.Action.UNPUBLISH, when);
+    }
+    
+    // Cancela las acciones programadas de un contenido.
+    public boolean cancelScheduled(String id) {
+        PublishScheduler current = requireScheduler();
+        if (!allowed(Permission.PUBLISH)) {
+            return false;
+        }
+        boolean publish = current.cancel(id, PublishScheduler.Action.PUBLISH);
+        boolean unpublish = current.cancel(id, PublishScheduler.Action.UNPUBLISH);
+        return publish || unpublish;
+    }
+    
+    // Fecha de publicación programada, o null si no hay.
+    public Date getScheduledPublish(String id) {
+        PublishScheduler current = scheduler;
+        return current != null ? current.getScheduled(id, PublishScheduler.Action.PUBLISH) : null;
+    }
+    
+    // Fecha de despublicación programada, o null si no hay.
+    public Date getScheduledUnpublish(String id) {
+        PublishScheduler current = scheduler;
+        return current != null ? current.getScheduled(id, PublishScheduler.Action.UNPUBLISH) : null;
+    }
+    
+    // Obtiene todas las acciones programadas ordenadas por fecha.
+    public List<PublishScheduler.Entry> getScheduledActions() {
+        PublishScheduler current = scheduler;
+        return current != null ? current.getAll() : new ArrayList<>();
+    }
+    
+    private boolean schedule(String id, PublishScheduler.Action action, Date when) {
+        PublishScheduler current = requireScheduler();
+        if (when == null || !allowed(Permission.PUBLISH) || !contains(id)) {
+            return false;
+        }
+        current.schedule(id, action, when);
+        return true;
+    }
+    
+    private PublishScheduler requireScheduler() {
+        PublishScheduler current = scheduler;
+        if (current == null) {
+            throw new IllegalStateException("La programación de publicaciones no está iniciada");
+        }
+        return current;
+    }
+    
+    // Aplica un lote de acciones vencidas en un solo paso de escritura.
+    // El permiso se verificó al programar, así que no depende del usuario actual.
+    private void applyScheduled(List<PublishScheduler.Entry> due) {
+        SCHEDULED_METRICS.run(() -> {
+            List<ContentEvent> events = null;
+            lock.writeLock().lock();
+            try {
+                for (PublishScheduler.Entry entry : due) {
+                    Content content = find(entry.getContentId());
+                    if (content == null) {
+                        continue; // El contenido ya no existe
+                    }
+                    if (entry.getAction() == PublishScheduler.Action.PUBLISH && !content.isPublished()) {
+                        content.publish();
+                        if (content.isPublished()) {
+                            sortIndex.update(content);
+                            dateIndex.update(content);
+                            fireEvent(ContentEvent.Type.PUBLISHED, content);
+                        }
+                    } else if (entry.getAction() == PublishScheduler.Action.UNPUBLISH && content.isPublished()) {
+                        content.unpublish();
+                        sortIndex.update(content);
+                        dateIndex.update(content);
+                        fireEvent(ContentEvent.Type.UNPUBLISHED, content);
+                    }
+                }
+                events = drainEvents();
+            } finally {
+                unlockAndNotify(events);
+            }
+        });
+    }
+    
+    // Busca contenidos por palabra clave en título o autor (sin distinguir mayúsculas ni tildes).
     @Override
     public List<Content> searchByKeyword(String keyword) {
-        if (keyword == null || keyword.trim().isEmpty()) {
-            return new ArrayList<>(contentList);
-        }
-        
-        String lowerKeyword = keyword.toLowerCase();
-        return contentList.stream()
-                .filter(c -> c.getTitle().toLowerCase().contains(lowerKeyword) ||
-                           c.getAuthor().toLowerCase().contains(lowerKeyword))
-                .collect(Collectors.toList());
+        return SEARCH_METRICS.time(() -> {
+            lock.readLock().lock();
+            try {
+                if (keyword == null || keyword.trim().isEmpty()) {
+                    return copyContents();
+                }
+    
+                // Las claves sin tildes se calcularon al crear o editar cada contenido
+                String key = TextNormalizer.fold(keyword);
+                return streamContents()
+                        .filter(c -> c.getTitleKey().contains(key) || c.getAuthorKey().contains(key))
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+    
+    // Busca tolerando errores de escritura: cada palabra de la consulta debe aparecer en el título
+    // o el autor con a lo sumo maxEdits ediciones (menos en palabras cortas). Los resultados se
+    // ordenan de menor a mayor cantidad de ediciones.
+    @Override
+    public List<Content> searchFuzzy(String keyword, int maxEdits) {
+        return FUZZY_SEARCH_METRICS.time(() -> {
+            lock.readLock().lock();
+            try {
+                if (keyword == null || keyword.trim().isEmpty()) {
+                    return copyContents();
+                }
+    
+                Map<String, Integer> distances = fuzzyIndex.search(keyword, maxEdits);
+                List<Content> results = new ArrayList<>(distances.size());
+                for (String id : distances.keySet()) {
+                    Content content = find(id);
+                    if (content != null) {
+                        results.add(content);
+                    }
+                }
+                results.sort(Comparator.comparingInt((Content c) -> distances.get(c.getId()))
+                        .thenComparing(Content::getTitleCollationKey)
+                        .thenComparing(Content::getId));
+                return results;
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+    
+    // Obtiene una página ordenada del catálogo (paginación por clave).
+    // after es el cursor de la página anterior, o null para la primera; la primera página
+    // cuesta O(log n + pageSize) sin importar el tamaño del catálogo.
+    public Page<Content> getPage(SortField field, boolean ascending, PageCursor after, int pageSize) {
+        return getPage(field, ascending, after, pageSize, null);
+    }
+    
+    // Igual que getPage, pero solo con los contenidos que cumplen el filtro (puede ser null).
+    // Con un filtro se recorren los que no lo cumplen hasta llenar la página.
+    public Page<Content> getPage(SortField field, boolean ascending, PageCursor after, int pageSize,
+                                 Predicate<Content> filter) {
+        return PAGE_METRICS.time(() -> {
+            if (pageSize <= 0) {
+                throw new IllegalArgumentException("El tamaño de página debe ser positivo");
+            }
+            if (after != null && (after.getField() != field || after.isAscending() != ascending)) {
+                throw new IllegalArgumentException("El cursor pertenece a otro orden: " + after);
+            }
+            lock.readLock().lock();
+            try {
+                return sortIndex.page(field, ascending, after, pageSize, filter);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+    
+    // Obtiene todos los contenidos ordenados por un campo, recorriendo su índice (sin comparar).
+    public List<Content> getAllContentSorted(SortField field, boolean ascending) {
+        return getAllContentSorted(field, ascending, null);
+    }
+    
+    // Igual que getAllContentSorted, pero solo con los contenidos que cumplen el filtro (puede ser null).
+    // Ordena un subconjunto grande en O(n) en lugar de compararlo.
+    public List<Content> getAllContentSorted(SortField field, boolean ascending, Predicate<Content> filter) {
+        return SORTED_METRICS.time(() -> {
+            lock.readLock().lock();
+            try {
+                return sortIndex.sorted(field, ascending, filter);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+    
+    // Contenidos cuya fecha está en [from, to), del más antiguo al más reciente (null deja el extremo abierto).
+    // Recorre solo el rango en el índice de la fecha: O(log n + resultados).
+    public List<Content> findByDateRange(DateField field, Date from, Date to) {
+        return DATE_RANGE_METRICS.time(() -> {
+            if (from != null && to != null && from.after(to)) {
+                throw new IllegalArgumentException("El rango de fechas está invertido: " + from + " > " + to);
+            }
+            lock.readLock().lock();
+            try {
+                return dateIndex.range(field, from, to);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+    
+    // Contenidos publicados actualmente cuya publicación está en [from, to).
+    public List<Content> getPublishedBetween(Date from, Date to) {
+        return findByDateRange(DateField.PUBLISH_DATE, from, to);
+    }
+    
+    // Borradores sin modificar desde hace al menos days días, del más antiguo al más reciente.
+    public List<Content> getStaleDrafts(int days) {
+        return STALE_DRAFTS_METRICS.time(() -> {
+            if (days < 0) {
+                throw new IllegalArgumentException("La cantidad de días no puede ser negativa: " + days);
+            }
+            lock.readLock().lock();
+            try {
+                return dateIndex.draftsBefore(new Date(System.currentTimeMillis() - days * DAY_MILLIS));
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+    
+    // Sugiere títulos, autores y etiquetas que empiezan con el prefijo, de más a menos usados.
+    // No toma el candado del controlador: el índice tiene su propio monitor y responde en microsegundos.
+    public List<AutocompleteIndex.Completion> suggest(String prefix, int limit) {
+        return SUGGEST_METRICS.time(() -> {
+            return autocomplete.complete(prefix, limit);
+        });
     }
     
     // Filtra contenidos por categoría.
     @Override
     public List<Content> filterByCategory(Category category) {
-        if (category == null) {
-            return new ArrayList<>(contentList);
+        return FILTER_CATEGORY_METRICS.time(() -> {
+            lock.readLock().lock();
+            try {
+                if (category == null) {
+                    return copyContents();
+                }
+    
+                return streamContents()
+                        .filter(c -> c.getCategory().equals(category))
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+    
+    // Filtra contenidos de una categoría y de todas sus subcategorías.
+    public List<Content> filterByCategoryTree(Category category) {
+        return FILTER_CATEGORY_TREE_METRICS.time(() -> {
+            lock.readLock().lock();
+            try {
+                if (category == null) {
+                    return copyContents();
+                }
+                return categoryIndex.getSubtreeContent(category);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+    
+    // Cuenta los contenidos de una categoría incluyendo sus subcategorías.
+    public long countByCategoryTree(Category category) {
+        lock.readLock().lock();
+        try {
+            return category != null ? categoryIndex.countSubtree(category) : slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Registra categorías en el índice para consultas por subárbol.
+    public void registerCategories(List<Category> categories) {
+        for (Category category : categories) {
+            categoryIndex.register(category);
         }
-        
-        return contentList.stream()
-                .filter(c -> c.getCategory().equals(category))
-                .collect(Collectors.toList());
     }
     
     // Filtra contenidos por tipo (Artículo, Video, Imagen).
     @Override
     public List<Content> filterByType(String type) {
-        if (type == null || type.equals("Todos")) {
-            return new ArrayList<>(contentList);
-        }
-        
-        return contentList.stream()
-                .filter(c -> c.getContentType().equals(type))
-                .collect(Collectors.toList());
+        return FILTER_TYPE_METRICS.time(() -> {
+            lock.readLock().lock();
+            try {
+                if (type == null || type.equals("Todos")) {
+                    return copyContents();
+                }
+    
+                return streamContents()
+                        .filter(c -> c.getContentType().equals(type))
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
     }
     
     // Filtra contenidos por etiqueta (tag).
     @Override
     public List<Content> filterByTag(Tag tag) {
-        if (tag == null) {
-            return new ArrayList<>(contentList);
-        }
-        
-        return contentList.stream()
-                .filter(c -> c.getTags().contains(tag))
-                .collect(Collectors.toList());
+        return FILTER_TAG_METRICS.time(() -> {
+            lock.readLock().lock();
+            try {
+                if (tag == null) {
+                    return copyContents();
+                }
+    
+                return streamContents()
+                        .filter(c -> c.getTags().contains(tag))
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
     }
     
     // Obtiene todos los contenidos.
     public List<Content> getAllContent() {
-        return new ArrayList<>(contentList);
+        lock.readLock().lock();
+        try {
+            return copyContents();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
     
     // Obtiene solo los contenidos publicados.
     public List<Content> getPublishedContent() {
-        return contentList.stream()
-                .filter(Content::isPublished)
-                .collect(Collectors.toList());
+        lock.readLock().lock();
+        try {
+            return streamContents()
+                    .filter(Content::isPublished)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
     }
     
     // Obtiene contenidos por estado (PUBLISHED, DRAFT).
     public List<Content> getContentByStatus(String status) {
-        return contentList.stream()
-                .filter(c -> c.getStatus().equals(status))
-                .collect(Collectors.toList());
+        lock.readLock().lock();
+        try {
+            return streamContents()
+                    .filter(c -> c.getStatus().equals(status))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Contadores de actividad por día, semana y mes, alimentados por los eventos de este controlador.
+    public ActivityCounters getActivityCounters() {
+        return activity;
+    }
+    
+    // Cubo de cantidades por categoría, tipo, estado, autor y mes, alimentado por los eventos de este controlador.
+    public ContentCube getContentCube() {
+        return cube;
+    }
+    
+    // Resúmenes aproximados (autores y etiquetas distintos, distribuciones), alimentados por los eventos.
+    public ContentSketches getSketches() {
+        return sketches;
+    }
+    
+    // Recalcula los resúmenes aproximados desde el catálogo; bajo el candado de lectura ningún
+    // cambio queda entre la foto del catálogo y el recálculo.
+    public void rebuildSketches() {
+        lock.readLock().lock();
+        try {
+            sketches.rebuild(copyContents());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Suscribe un listener a los cambios de contenidos.
+    public void addContentListener(ContentListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+    
+    // Cancela la suscripción de un listener.
+    public void removeContentListener(ContentListener listener) {
+        listeners.remove(listener);
+    }
+    
+    // Inicia un lote: los eventos se acumulan y combinan hasta endBatch (admite anidamiento).
+    public void beginBatch() {
+        lock.writeLock().lock();
+        try {
+            batchDepth++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Termina un lote y notifica los eventos acumulados.
+    public void endBatch() {
+        List<ContentEvent> events = null;
+        lock.writeLock().lock();
+        try {
+            if (batchDepth == 0) {
+                throw new IllegalStateException("endBatch sin beginBatch");
+            }
+            batchDepth--;
+            events = drainEvents();
+        } finally {
+            unlockAndNotify(events);
+        }
+    }
+    
+    // Verifica un permiso del usuario que actúa en este hilo (o del usuario actual) y cuenta los rechazos.
+    private boolean allowed(Permission permission) {
+        User user = actingUser.get();
+        if (user == null) {
+            user = currentUser;
+        }
+        if (user != null && user.hasPermission(permission)) {
+            return true;
+        }
+        deniedCount.increment();
+        return false;
+    }
+    
+    // Contenido con ese id, o null (requiere un candado).
+    private Content find(String id) {
+        Integer slot = slotById.get(id);
+        return slot != null ? contentList.get(slot) : null;
+    }
+
+    // Copia de los contenidos en orden de creación (requiere un candado).
+    private List<Content> copyContents() {
+        if (holes == 0) {
+            return new ArrayList<>(contentList);
+        }
+        List<Content> copy = new ArrayList<>(slotById.size());
+        for (Content content : contentList) {
+            if (content != null) {
+                copy.add(content);
+            }
+        }
+        return copy;
+    }
+
+    private Stream<Content> streamContents() {
+        return holes == 0 ? contentList.stream() : contentList.stream().filter(Objects::nonNull);
+    }
+
+    // Quita los huecos cuando ocupan la mitad de la lista y renumera las posiciones
+    // (requiere el candado de escritura).
+    private void compactIfSparse() {
+        if (holes * 2 < contentList.size()) {
+            return;
+        }
+        contentList.removeIf(Objects::isNull);
+        holes = 0;
+        for (int i = 0; i < contentList.size(); i++) {
+            slotById.put(contentList.get(i).getId(), i);
+        }
+    }
+
+    // Registra un evento y lo combina con el pendiente del mismo contenido (requiere el candado de escritura).
+    private void fireEvent(ContentEvent.Type type, Content content) {
+        String id = content.getId();
+        ContentEvent previous = pendingEvents.get(id);
+        if (previous == null) {
+            pendingEvents.put(id, new ContentEvent(type, content));
+        } else if (previous.getType() == ContentEvent.Type.CREATED) {
+            // Crear y eliminar en el mismo lote se anulan; cualquier otro cambio sigue siendo una creación
+            if (type == ContentEvent.Type.DELETED) {
+                pendingEvents.remove(id);
+            } else {
+                Set<ContentEvent.Type> merged = EnumSet.copyOf(previous.getTypes());
+                merged.add(type);
+                pendingEvents.put(id, new ContentEvent(ContentEvent.Type.CREATED, content, merged));
+            }
+        } else {
+            // El último cambio resume el lote; los anteriores quedan en getTypes
+            pendingEvents.put(id, new ContentEvent(type, content, previous.getTypes()));
+        }
+    }
+    
+    // Retira los eventos pendientes si no hay un lote abierto (requiere el candado de escritura).
+    private List<ContentEvent> drainEvents() {
+        if (batchDepth > 0 || pendingEvents.isEmpty()) {
+            return null;
+        }
+        List<ContentEvent> events = new ArrayList<>(pendingEvents.values());
+        pendingEvents.clear();
+        return events;
+    }
+    
+    // Libera el candado de escritura y notifica los eventos conservando solo el de lectura:
+    // los listeners pueden consultar el controlador, y ningún otro cambio se notifica
+    // antes de terminar esta entrega, así que los eventos llegan en orden.
+    // Un listener no debe modificar contenidos de forma síncrona.
+    private void unlockAndNotify(List<ContentEvent> events) {
+        lock.readLock().lock();
+        lock.writeLock().unlock();
+        try {
+            if (events != null) {
+                for (ContentListener listener : listeners) {
+                    listener.onContentChanged(events);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private static OperationMetrics metric(String operation) {
+        return MetricsRegistry.getDefault().operation("content." + operation);
     }
 }
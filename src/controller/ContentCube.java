@@ -0,0 +1,262 @@
+package controller;
+
+import model.Category;
+import model.Content;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Cubo de agregación del catálogo: cantidad de contenidos por categoría, tipo, estado,
+// autor y mes de creación. Se mantiene con los eventos del ContentController: cada cambio
+// mueve un contenido de una celda a otra, sin volver a recorrer el catálogo.
+// Además de la celda base (todas las dimensiones) se materializan algunos agregados
+// pequeños; una consulta lee el más chico que contiene sus dimensiones, así los reportes
+// habituales suman decenas de celdas en lugar de miles.
+// Las consultas se arman con View: slice fija valores, drillDown agrega una dimensión al
+// desglose y rollUp la quita.
+public class ContentCube implements ContentListener {
+    // Dimensiones del cubo
+    public enum Dimension {
+        CATEGORY("Categoría"),
+        TYPE("Tipo"),
+        STATUS("Estado"),
+        AUTHOR("Autor"),
+        MONTH("Mes");
+
+        private final String label;
+
+        Dimension(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() { return label; }
+    }
+
+    // Agregados materializados además de la celda base
+    private static final List<Set<Dimension>> MATERIALIZED = Arrays.asList(
+            EnumSet.of(Dimension.CATEGORY, Dimension.TYPE, Dimension.STATUS),
+            EnumSet.of(Dimension.TYPE, Dimension.STATUS, Dimension.MONTH),
+            EnumSet.of(Dimension.AUTHOR, Dimension.TYPE));
+
+    private final ZoneId zone;
+    private final List<Cuboid> cuboids;
+    private final Map<String, Object[]> coordinatesById;
+
+    // Constructor con la zona horaria del sistema para el mes de creación.
+    public ContentCube() {
+        this(ZoneId.systemDefault());
+    }
+
+    // Constructor con la zona horaria en la que se cortan los meses.
+    public ContentCube(ZoneId zone) {
+        this.zone = zone;
+        this.cuboids = new ArrayList<>();
+        // Del más chico al más grande: la primera coincidencia es la más barata de leer
+        for (Set<Dimension> dimensions : MATERIALIZED) {
+            cuboids.add(new Cuboid(dimensions));
+        }
+        cuboids.add(new Cuboid(EnumSet.allOf(Dimension.class)));
+        this.coordinatesById = new HashMap<>();
+    }
+
+    // Mueve los contenidos cambiados a su celda actual.
+    @Override
+    public synchronized void onContentChanged(List<ContentEvent> events) {
+        for (ContentEvent event : events) {
+            Content content = event.getContent();
+            Object[] previous = event.getType() == ContentEvent.Type.DELETED
+                    ? coordinatesById.remove(content.getId())
+                    : coordinatesById.get(content.getId());
+            Object[] current = event.getType() == ContentEvent.Type.DELETED ? null : coordinatesOf(content);
+            if (previous != null && Arrays.equals(previous, current)) {
+                continue;
+            }
+            for (Cuboid cuboid : cuboids) {
+                if (previous != null) {
+                    cuboid.add(previous, -1);
+                }
+                if (current != null) {
+                    cuboid.add(current, 1);
+                }
+            }
+            if (current != null) {
+                coordinatesById.put(content.getId(), current);
+            }
+        }
+    }
+
+    // Vista del cubo completo sin desglose (un solo total).
+    public View view() {
+        return new View(this, Collections.emptyList(), new EnumMap<>(Dimension.class));
+    }
+
+    // Cantidad de contenidos agregada por las dimensiones pedidas, dentro del corte.
+    private synchronized Map<List<Object>, Long> aggregate(List<Dimension> groupBy, Map<Dimension, Object> slice) {
+        Set<Dimension> needed = EnumSet.noneOf(Dimension.class);
+        needed.addAll(groupBy);
+        needed.addAll(slice.keySet());
+        Cuboid source = null;
+        for (Cuboid cuboid : cuboids) {
+            if (cuboid.dimensions.containsAll(needed)) {
+                source = cuboid;
+                break;
+            }
+        }
+
+        Map<List<Object>, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<Cell, long[]> entry : source.cells.entrySet()) {
+            Object[] values = entry.getKey().values;
+            if (!matches(values, slice)) {
+                continue;
+            }
+            List<Object> key = new ArrayList<>(groupBy.size());
+            for (Dimension dimension : groupBy) {
+                key.add(values[dimension.ordinal()]);
+            }
+            result.merge(Collections.unmodifiableList(key), entry.getValue()[0], Long::sum);
+        }
+        return result;
+    }
+
+    private static boolean matches(Object[] values, Map<Dimension, Object> slice) {
+        for (Map.Entry<Dimension, Object> fixed : slice.entrySet()) {
+            if (!Objects.equals(values[fixed.getKey().ordinal()], fixed.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Coordenadas de un contenido en el cubo, en el orden de Dimension.
+    private Object[] coordinatesOf(Content content) {
+        Object[] values = new Object[Dimension.values().length];
+        values[Dimension.CATEGORY.ordinal()] = content.getCategory();
+        values[Dimension.TYPE.ordinal()] = content.getContentType();
+        values[Dimension.STATUS.ordinal()] = content.getStatus();
+        values[Dimension.AUTHOR.ordinal()] = content.getAuthor();
+        values[Dimension.MONTH.ordinal()] = YearMonth.from(
+                Instant.ofEpochMilli(content.getCreationDate().getTime()).atZone(zone));
+        return values;
+    }
+
+    // Consulta inmutable sobre el cubo: cada operación devuelve una vista nueva
+    public static final class View {
+        private final ContentCube cube;
+        private final List<Dimension> groupBy;
+        private final Map<Dimension, Object> slice;
+
+        private View(ContentCube cube, List<Dimension> groupBy, Map<Dimension, Object> slice) {
+            this.cube = cube;
+            this.groupBy = groupBy;
+            this.slice = slice;
+        }
+
+        // Desglosa además por una dimensión.
+        public View drillDown(Dimension dimension) {
+            if (groupBy.contains(dimension)) {
+                return this;
+            }
+            List<Dimension> next = new ArrayList<>(groupBy);
+            next.add(dimension);
+            return new View(cube, Collections.unmodifiableList(next), slice);
+        }
+
+        // Deja de desglosar por una dimensión (sus valores se suman).
+        public View rollUp(Dimension dimension) {
+            List<Dimension> next = new ArrayList<>(groupBy);
+            next.remove(dimension);
+            return new View(cube, Collections.unmodifiableList(next), slice);
+        }
+
+        // Se queda solo con las celdas en las que la dimensión vale value.
+        public View slice(Dimension dimension, Object value) {
+            Map<Dimension, Object> next = new EnumMap<>(Dimension.class);
+            next.putAll(slice);
+            next.put(dimension, value);
+            return new View(cube, groupBy, next);
+        }
+
+        // Dimensiones del desglose, en orden.
+        public List<Dimension> getGroupBy() {
+            return groupBy;
+        }
+
+        // Cantidades por combinación de valores del desglose (en el orden de getGroupBy).
+        public Map<List<Object>, Long> counts() {
+            return cube.aggregate(groupBy, slice);
+        }
+
+        // Cantidades por valor cuando el desglose es de una sola dimensión.
+        @SuppressWarnings("unchecked")
+        public <T> Map<T, Long> countsBy(Dimension dimension) {
+            Map<T, Long> result = new LinkedHashMap<>();
+            for (Map.Entry<List<Object>, Long> entry : cube.aggregate(Collections.singletonList(dimension), slice).entrySet()) {
+                result.put((T) entry.getKey().get(0), entry.getValue());
+            }
+            return result;
+        }
+
+        // Total de contenidos en el corte.
+        public long total() {
+            Long total = cube.aggregate(Collections.emptyList(), slice).get(Collections.emptyList());
+            return total != null ? total : 0;
+        }
+    }
+
+    // Agregado materializado sobre un subconjunto de dimensiones
+    private static final class Cuboid {
+        final Set<Dimension> dimensions;
+        final Map<Cell, long[]> cells;
+
+        Cuboid(Set<Dimension> dimensions) {
+            this.dimensions = dimensions;
+            this.cells = new HashMap<>();
+        }
+
+        // Suma delta en la celda que corresponde a las coordenadas; quita las celdas vacías.
+        void add(Object[] coordinates, long delta) {
+            Object[] values = new Object[coordinates.length];
+            for (Dimension dimension : dimensions) {
+                values[dimension.ordinal()] = coordinates[dimension.ordinal()];
+            }
+            Cell cell = new Cell(values);
+            long[] count = cells.computeIfAbsent(cell, c -> new long[1]);
+            count[0] += delta;
+            if (count[0] == 0) {
+                cells.remove(cell);
+            }
+        }
+    }
+
+    // Celda del cubo: valores de las dimensiones (null en las que el agregado no desglosa)
+    private static final class Cell {
+        final Object[] values;
+        final int hash;
+
+        Cell(Object[] values) {
+            this.values = values;
+            this.hash = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Cell && Arrays.equals(values, ((Cell) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
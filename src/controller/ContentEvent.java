@@ -0,0 +1,54 @@
+package controller;
+
+import model.Content;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+// Evento que describe un cambio sobre un contenido del ContentController.
+// En un lote, varios cambios de un mismo contenido llegan combinados en un solo evento:
+// getType es el cambio que resume el lote y getTypes todos los que ocurrieron.
+public class ContentEvent {
+
+    // Tipos de cambio
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        PUBLISHED,
+        UNPUBLISHED
+    }
+
+    private final Type type;
+    private final Content content;
+    private final Set<Type> types;
+    private final long timestamp;
+
+    // Constructor de ContentEvent.
+    public ContentEvent(Type type, Content content) {
+        this(type, content, EnumSet.noneOf(Type.class));
+    }
+
+    // Constructor de un evento combinado con los cambios anteriores del mismo lote.
+    ContentEvent(Type type, Content content, Set<Type> merged) {
+        EnumSet<Type> all = EnumSet.noneOf(Type.class);
+        all.addAll(merged);
+        all.add(type);
+        this.type = type;
+        this.content = content;
+        this.types = Collections.unmodifiableSet(all);
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    // Getters
+    public Type getType() { return type; }
+    public Set<Type> getTypes() { return types; }
+    public Content getContent() { return content; }
+    public String getContentId() { return content.getId(); }
+    public long getTimestamp() { return timestamp; }
+
+    @Override
+    public String toString() {
+        return type + " " + content;
+    }
+}
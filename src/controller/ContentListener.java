@@ -0,0 +1,11 @@
+package controller;
+
+import java.util.List;
+
+// Interfaz para recibir los cambios de contenidos.
+// Los eventos llegan en lotes y ya combinados: a lo sumo un evento por contenido.
+public interface ContentListener {
+
+    // Se invoca en el hilo que hizo el cambio, después de aplicarlo
+    void onContentChanged(List<ContentEvent> events);
+}
@@ -0,0 +1,143 @@
+package controller;
+
+import analytics.HyperLogLog;
+import analytics.QuantileSketch;
+import model.Article;
+import model.Category;
+import model.Content;
+import model.Tag;
+import model.Video;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Resúmenes aproximados del catálogo, alimentados por los eventos del ContentController:
+// - autores distintos por categoría y etiquetas distintas por mes de creación (HyperLogLog);
+// - distribución de palabras de los artículos y de duración de los videos (QuantileSketch).
+// Cada cambio actualiza los sketches en tiempo constante. Los HyperLogLog solo suman: un
+// autor o etiqueta que deja de usarse sigue contado hasta llamar a rebuild. Los cuantiles sí
+// quitan el valor anterior al editar o eliminar.
+// Los getters devuelven copias, que se pueden combinar con las de otras particiones.
+// La precisión frente a los valores exactos se comprueba con benchmark.SketchAccuracy.
+public class ContentSketches implements ContentListener {
+    private final ZoneId zone;
+    private final Map<Category, HyperLogLog> authorsByCategory;
+    private final Map<YearMonth, HyperLogLog> tagsByMonth;
+    private final QuantileSketch wordCounts;
+    private final QuantileSketch videoDurations;
+    // Último valor sumado a los cuantiles por contenido, para poder quitarlo. Es lo único que
+    // crece con el catálogo (O(n), unos 60 bytes por artículo o video): un QuantileSketch no sabe
+    // qué valor aportó cada contenido, y sin esto editar o eliminar dejaría el valor viejo contado.
+    // Son dos mapas globales; los sketches por partición o por mes no los duplican.
+    private final Map<String, Integer> wordCountById;
+    private final Map<String, Integer> durationById;
+
+    // Constructor con la zona horaria del sistema para el mes de creación.
+    public ContentSketches() {
+        this(ZoneId.systemDefault());
+    }
+
+    // Constructor con la zona horaria en la que se cortan los meses.
+    public ContentSketches(ZoneId zone) {
+        this.zone = zone;
+        this.authorsByCategory = new LinkedHashMap<>();
+        this.tagsByMonth = new TreeMap<>();
+        this.wordCounts = new QuantileSketch();
+        this.videoDurations = new QuantileSketch();
+        this.wordCountById = new HashMap<>();
+        this.durationById = new HashMap<>();
+    }
+
+    // Actualiza los sketches con un lote de eventos.
+    @Override
+    public synchronized void onContentChanged(List<ContentEvent> events) {
+        for (ContentEvent event : events) {
+            if (event.getType() == ContentEvent.Type.DELETED) {
+                remove(event.getContent());
+            } else {
+                add(event.getContent());
+            }
+        }
+    }
+
+    // Vuelve a calcular todo a partir del catálogo actual (descarta valores que ya no se usan).
+    public synchronized void rebuild(Collection<Content> contents) {
+        authorsByCategory.clear();
+        tagsByMonth.clear();
+        for (Integer words : wordCountById.values()) {
+            wordCounts.remove(words);
+        }
+        for (Integer duration : durationById.values()) {
+            videoDurations.remove(duration);
+        }
+        wordCountById.clear();
+        durationById.clear();
+        for (Content content : contents) {
+            add(content);
+        }
+    }
+
+    // Copia de los autores distintos por categoría.
+    public synchronized Map<Category, HyperLogLog> getAuthorsByCategory() {
+        Map<Category, HyperLogLog> copy = new LinkedHashMap<>();
+        for (Map.Entry<Category, HyperLogLog> entry : authorsByCategory.entrySet()) {
+            copy.put(entry.getKey(), new HyperLogLog(entry.getValue()));
+        }
+        return copy;
+    }
+
+    // Copia de las etiquetas distintas por mes de creación, en orden cronológico.
+    public synchronized Map<YearMonth, HyperLogLog> getTagsByMonth() {
+        Map<YearMonth, HyperLogLog> copy = new TreeMap<>();
+        for (Map.Entry<YearMonth, HyperLogLog> entry : tagsByMonth.entrySet()) {
+            copy.put(entry.getKey(), new HyperLogLog(entry.getValue()));
+        }
+        return copy;
+    }
+
+    // Copia de la distribución de palabras por artículo.
+    public synchronized QuantileSketch getWordCounts() {
+        return new QuantileSketch(wordCounts);
+    }
+
+    // Copia de la distribución de duración de los videos (segundos).
+    public synchronized QuantileSketch getVideoDurations() {
+        return new QuantileSketch(videoDurations);
+    }
+
+    // Suma un contenido nuevo o cambiado; es idempotente si se repite el mismo estado.
+    private void add(Content content) {
+        authorsByCategory.computeIfAbsent(content.getCategory(), c -> new HyperLogLog()).add(content.getAuthor());
+        YearMonth month = YearMonth.from(Instant.ofEpochMilli(content.getCreationDate().getTime()).atZone(zone));
+        HyperLogLog tags = tagsByMonth.computeIfAbsent(month, m -> new HyperLogLog());
+        for (Tag tag : content.getTags()) {
+            tags.add(tag.getName());
+        }
+        if (content instanceof Article) {
+            replace(wordCounts, wordCountById, content.getId(), ((Article) content).getWordCount());
+        } else if (content instanceof Video) {
+            replace(videoDurations, durationById, content.getId(), ((Video) content).getDuration());
+        }
+    }
+
+    private void remove(Content content) {
+        replace(wordCounts, wordCountById, content.getId(), null);
+        replace(videoDurations, durationById, content.getId(), null);
+    }
+
+    private static void replace(QuantileSketch sketch, Map<String, Integer> values, String id, Integer value) {
+        Integer previous = value != null ? values.put(id, value) : values.remove(id);
+        if (previous != null) {
+            sketch.remove(previous);
+        }
+        if (value != null) {
+            sketch.add(value);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package controller;
+
+import model.Content;
+import java.util.Date;
+
+// Fechas de un contenido por las que se pueden hacer consultas por rango.
+// La fecha de publicación solo cuenta mientras el contenido está publicado.
+public enum DateField {
+    CREATION_DATE("Fecha de creación"),
+    LAST_MODIFIED("Última modificación"),
+    PUBLISH_DATE("Fecha de publicación");
+
+    private final String label;
+
+    DateField(String label) {
+        this.label = label;
+    }
+
+    // Fecha de un contenido para este campo, o null si no tiene (borradores sin publicar).
+    Date dateOf(Content content) {
+        switch (this) {
+            case CREATION_DATE: return content.getCreationDate();
+            case LAST_MODIFIED: return content.getLastModified();
+            default: return content.isPublished() ? content.getPublishDate() : null;
+        }
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
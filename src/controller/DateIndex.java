@@ -0,0 +1,146 @@
+package controller;
+
+import model.Content;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+// Índices de fechas del catálogo, uno por cada DateField, más uno de borradores por
+// última modificación. Cada índice es un árbol de (milisegundos, id): un rango se ubica
+// con subSet en O(log n) y luego se recorren solo los contenidos que caen dentro.
+// Las fechas se copian al indexar para poder reubicar un contenido ya modificado.
+// No es seguro entre hilos: el ContentController lo usa bajo su candado.
+class DateIndex {
+    // Posición del índice de borradores en el arreglo de entradas de cada contenido
+    private static final int DRAFTS = DateField.values().length;
+
+    private final Map<DateField, TreeSet<Entry>> indexes;
+    private final TreeSet<Entry> drafts;
+    private final Map<String, Entry[]> entriesById;
+
+    // Constructor de índices vacíos.
+    DateIndex() {
+        this.indexes = new EnumMap<>(DateField.class);
+        for (DateField field : DateField.values()) {
+            indexes.put(field, new TreeSet<>());
+        }
+        this.drafts = new TreeSet<>();
+        this.entriesById = new HashMap<>();
+    }
+
+    // Agrega un contenido a los índices de las fechas que tiene.
+    void add(Content content) {
+        Entry[] entries = new Entry[DRAFTS + 1];
+        for (DateField field : DateField.values()) {
+            entries[field.ordinal()] = insert(indexes.get(field), field.dateOf(content), content);
+        }
+        entries[DRAFTS] = insert(drafts, draftDate(content), content);
+        entriesById.put(content.getId(), entries);
+    }
+
+    // Reubica un contenido en los índices cuya fecha cambió (o que dejó de tener o empezó a tener).
+    void update(Content content) {
+        Entry[] entries = entriesById.get(content.getId());
+        if (entries == null) {
+            add(content);
+            return;
+        }
+        for (DateField field : DateField.values()) {
+            entries[field.ordinal()] = relocate(indexes.get(field), entries[field.ordinal()],
+                    field.dateOf(content), content);
+        }
+        entries[DRAFTS] = relocate(drafts, entries[DRAFTS], draftDate(content), content);
+    }
+
+    // Quita un contenido de todos los índices.
+    void remove(String contentId) {
+        Entry[] entries = entriesById.remove(contentId);
+        if (entries != null) {
+            for (DateField field : DateField.values()) {
+                removeEntry(indexes.get(field), entries[field.ordinal()]);
+            }
+            removeEntry(drafts, entries[DRAFTS]);
+        }
+    }
+
+    // Contenidos con fecha en [from, to), del más antiguo al más reciente; null deja el extremo abierto.
+    List<Content> range(DateField field, Date from, Date to) {
+        return collect(slice(indexes.get(field), from, to));
+    }
+
+    // Borradores modificados por última vez antes de cutoff, del más antiguo al más reciente.
+    List<Content> draftsBefore(Date cutoff) {
+        return collect(slice(drafts, null, cutoff));
+    }
+
+    private static NavigableSet<Entry> slice(TreeSet<Entry> index, Date from, Date to) {
+        // El id vacío queda antes que cualquier id real: from es inclusivo y to exclusivo
+        NavigableSet<Entry> view = index;
+        if (from != null) {
+            view = view.tailSet(new Entry(from.getTime(), "", null), true);
+        }
+        if (to != null) {
+            view = view.headSet(new Entry(to.getTime(), "", null), false);
+        }
+        return view;
+    }
+
+    private static List<Content> collect(NavigableSet<Entry> view) {
+        List<Content> result = new ArrayList<>();
+        for (Entry entry : view) {
+            result.add(entry.content);
+        }
+        return result;
+    }
+
+    private static Date draftDate(Content content) {
+        return content.isPublished() ? null : content.getLastModified();
+    }
+
+    private static Entry insert(TreeSet<Entry> index, Date date, Content content) {
+        if (date == null) {
+            return null;
+        }
+        Entry entry = new Entry(date.getTime(), content.getId(), content);
+        index.add(entry);
+        return entry;
+    }
+
+    private static Entry relocate(TreeSet<Entry> index, Entry previous, Date date, Content content) {
+        if (previous != null && date != null && previous.content == content && previous.millis == date.getTime()) {
+            return previous;
+        }
+        removeEntry(index, previous);
+        return insert(index, date, content);
+    }
+
+    private static void removeEntry(TreeSet<Entry> index, Entry entry) {
+        if (entry != null) {
+            index.remove(entry);
+        }
+    }
+
+    // Posición de un contenido en un índice: fecha y, para desempatar, el id.
+    private static final class Entry implements Comparable<Entry> {
+        final long millis;
+        final String id;
+        final Content content;
+
+        Entry(long millis, String id, Content content) {
+            this.millis = millis;
+            this.id = id;
+            this.content = content;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int result = Long.compare(millis, other.millis);
+            return result != 0 ? result : id.compareTo(other.id);
+        }
+    }
+}
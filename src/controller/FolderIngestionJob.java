@@ -0,0 +1,417 @@
+package controller;
+
+import media.MediaInfo;
+import media.MediaProbe;
+import model.*;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Importa una carpeta de medios creando un Image o Video por cada archivo reconocido.
+// - Recorre el árbol en paralelo (una tarea por directorio en un ForkJoinPool) y lee los
+//   atributos con NIO; solo se abren los archivos con extensión de medio para leer su cabecera.
+// - La categoría se elige con reglas glob sobre la ruta relativa (gana la primera que coincide).
+// - Los contenidos se insertan en lotes con beginBatch/endBatch desde el hilo que llama a run.
+// - Cada lote confirmado se agrega a un índice en disco con el id del contenido creado y la ruta,
+//   tamaño y fecha de modificación del archivo, así una importación interrumpida se retoma
+//   omitiendo lo que ya se importó. El catálogo vive en memoria: al cargar el índice solo cuentan
+//   las entradas cuyo contenido sigue en el controlador, y el archivo se reescribe sin las demás.
+public class FolderIngestionJob {
+    private static final Set<String> EXTENSIONS = Set.of("png", "jpg", "jpeg", "gif", "mp4", "m4v", "mov");
+    private static final int QUEUE_FACTOR = 4;
+
+    private final ContentController controller;
+    private final Path root;
+    private final Path indexFile;
+    private final List<Rule> rules;
+    private final Set<String> ingested;
+    private final Category defaultCategory;
+    private String author;
+    private int batchSize;
+    private int parallelism;
+    private ProgressListener listener;
+    private volatile boolean cancelled;
+
+    // Constructor: indexFile puede ser null para no recordar los archivos importados.
+    public FolderIngestionJob(ContentController controller, Path root, Path indexFile, Category defaultCategory) {
+        this.controller = controller;
+        this.root = root.toAbsolutePath().normalize();
+        this.indexFile = indexFile;
+        this.defaultCategory = defaultCategory;
+        this.rules = new ArrayList<>();
+        this.ingested = ConcurrentHashMap.newKeySet();
+        this.author = "Importación";
+        this.batchSize = 500;
+        this.parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    // Agrega una regla: los archivos cuya ruta relativa coincide con el glob van a la categoría.
+    public FolderIngestionJob addRule(String glob, Category category) {
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+        rules.add(new Rule(matcher, category));
+        return this;
+    }
+
+    // Agrega una regla por cada categoría: la carpeta de primer nivel con su nombre se asigna a ella.
+    public FolderIngestionJob addFolderRules(List<Category> categories) {
+        for (Category category : categories) {
+            addRule(escapeGlob(category.getName()) + "/**", category);
+        }
+        return this;
+    }
+
+    public FolderIngestionJob setAuthor(String author) {
+        this.author = author;
+        return this;
+    }
+
+    public FolderIngestionJob setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser positivo");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public FolderIngestionJob setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("El paralelismo debe ser positivo");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public FolderIngestionJob setProgressListener(ProgressListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    // Pide detener la importación; los lotes ya confirmados quedan en el índice.
+    public void cancel() {
+        cancelled = true;
+    }
+
+    // Ejecuta la importación y devuelve el resumen final.
+    public Progress run() throws IOException {
+        if (!Files.isDirectory(root)) {
+            throw new IOException("No es un directorio: " + root);
+        }
+        loadIndex();
+        cancelled = false;
+
+        long start = System.nanoTime();
+        Counters counters = new Counters();
+        BlockingQueue<Item> queue = new ArrayBlockingQueue<>(batchSize * QUEUE_FACTOR);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        ForkJoinTask<Void> walk = pool.submit(new DirectoryTask(root, queue, counters));
+
+        BufferedWriter writer = indexFile == null ? null : Files.newBufferedWriter(indexFile,
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        try {
+            List<Item> batch = new ArrayList<>(batchSize);
+            while (!walk.isDone() || !queue.isEmpty()) {
+                Item item = queue.poll(50, TimeUnit.MILLISECONDS);
+                if (item != null) {
+                    batch.add(item);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+                if (batch.size() >= batchSize || (item == null && !batch.isEmpty())) {
+                    commit(batch, writer, counters);
+                    batch.clear();
+                    notifyProgress(counters, start, false);
+                }
+            }
+            commit(batch, writer, counters);
+            walk.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+        } finally {
+            cancelled = true;
+            pool.shutdownNow();
+            if (writer != null) {
+                writer.close();
+            }
+        }
+        Progress result = counters.snapshot(System.nanoTime() - start, true);
+        if (listener != null) {
+            listener.onProgress(result);
+        }
+        return result;
+    }
+
+    // Inserta un lote y registra en el índice los que quedaron en el controlador.
+    private void commit(List<Item> batch, BufferedWriter writer, Counters counters) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        controller.beginBatch();
+        try {
+            for (Item item : batch) {
+                controller.create(item.content);
+            }
+        } finally {
+            controller.endBatch();
+        }
+
+        for (Item item : batch) {
+            // create no agrega nada si el usuario no tiene permiso
+            if (!controller.contains(item.content.getId())) {
+                counters.failed.incrementAndGet();
+                continue;
+            }
+            counters.ingested.incrementAndGet();
+            ingested.add(item.fingerprint);
+            if (writer != null) {
+                writer.write(item.content.getId() + "\t" + item.fingerprint);
+                writer.newLine();
+            }
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    private void notifyProgress(Counters counters, long start, boolean done) {
+        if (listener != null) {
+            listener.onProgress(counters.snapshot(System.nanoTime() - start, done));
+        }
+    }
+
+    // Carga las huellas cuyo contenido sigue en el catálogo; las demás líneas (contenidos que ya
+    // no existen, por ejemplo tras reiniciar, o formato anterior sin id) se quitan del archivo.
+    private void loadIndex() throws IOException {
+        ingested.clear();
+        if (indexFile == null || !Files.exists(indexFile)) {
+            return;
+        }
+        List<String> lines = Files.readAllLines(indexFile, StandardCharsets.UTF_8);
+        List<String> live = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            int tab = line.indexOf('\t');
+            if (tab > 0 && controller.contains(line.substring(0, tab))) {
+                ingested.add(line.substring(tab + 1));
+                live.add(line);
+            }
+        }
+        if (live.size() < lines.size()) {
+            Path parent = indexFile.toAbsolutePath().getParent();
+            Path temp = Files.createTempFile(parent, "ingest", ".tmp");
+            Files.write(temp, live, StandardCharsets.UTF_8);
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    // Crea el contenido de un archivo, o null si no es un medio reconocido.
+    private Content createContent(Path file, Path relative) throws IOException {
+        MediaInfo info = MediaProbe.probe(file);
+        if (info == null) {
+            return null;
+        }
+        String title = title(file);
+        Category category = categoryFor(relative);
+        String url = file.toUri().toString();
+        if (info.getKind() == MediaInfo.Kind.IMAGE) {
+            return new Image(title, author, category, url, info.getDimensions(), info.getFormat());
+        }
+        if (info.getResolution() == null) {
+            return null; // MP4 sin pista de video (solo audio)
+        }
+        return new Video(title, author, category, url, info.getDurationSeconds(), info.getResolution());
+    }
+
+    private Category categoryFor(Path relative) {
+        for (Rule rule : rules) {
+            if (rule.matcher.matches(relative)) {
+                return rule.category;
+            }
+        }
+        return defaultCategory;
+    }
+
+    // Huella de un archivo: tamaño, fecha de modificación y ruta (la ruta al final porque puede contener '|').
+    private static String fingerprint(Path file, BasicFileAttributes attributes) {
+        return attributes.size() + "|" + attributes.lastModifiedTime().toMillis() + "|" + file;
+    }
+
+    private static String extension(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static String title(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return (dot > 0 ? name.substring(0, dot) : name).replace('_', ' ').trim();
+    }
+
+    private static String escapeGlob(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            if ("\\*?[]{},".indexOf(c) >= 0) {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    // Recorre un directorio; los subdirectorios se procesan como tareas paralelas.
+    private final class DirectoryTask extends RecursiveAction {
+        private final Path directory;
+        private final BlockingQueue<Item> queue;
+        private final Counters counters;
+
+        DirectoryTask(Path directory, BlockingQueue<Item> queue, Counters counters) {
+            this.directory = directory;
+            this.queue = queue;
+            this.counters = counters;
+        }
+
+        @Override
+        protected void compute() {
+            List<DirectoryTask> subtasks = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    if (cancelled) {
+                        return;
+                    }
+                    BasicFileAttributes attributes = Files.readAttributes(entry,
+                            BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    if (attributes.isDirectory()) {
+                        subtasks.add(new DirectoryTask(entry, queue, counters));
+                    } else if (attributes.isRegularFile() && EXTENSIONS.contains(extension(entry))) {
+                        visitFile(entry, attributes);
+                    }
+                }
+            } catch (IOException e) {
+                counters.failed.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            invokeAll(subtasks);
+        }
+
+        private void visitFile(Path file, BasicFileAttributes attributes) throws InterruptedException {
+            counters.scanned.incrementAndGet();
+            String fingerprint = fingerprint(file, attributes);
+            if (ingested.contains(fingerprint)) {
+                counters.skipped.incrementAndGet();
+                return;
+            }
+            try {
+                Content content = createContent(file, root.relativize(file));
+                if (content == null) {
+                    counters.unrecognized.incrementAndGet();
+                    return;
+                }
+                // Espera si el hilo que inserta va atrasado, revisando la cancelación
+                Item item = new Item(fingerprint, content);
+                while (!cancelled && !queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                    // Cola llena
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                counters.failed.incrementAndGet();
+            }
+        }
+    }
+
+    // Regla de asignación de categoría
+    private static final class Rule {
+        final PathMatcher matcher;
+        final Category category;
+
+        Rule(PathMatcher matcher, Category category) {
+            this.matcher = matcher;
+            this.category = category;
+        }
+    }
+
+    // Archivo listo para insertar
+    private static final class Item {
+        final String fingerprint;
+        final Content content;
+
+        Item(String fingerprint, Content content) {
+            this.fingerprint = fingerprint;
+            this.content = content;
+        }
+    }
+
+    private static final class Counters {
+        final AtomicInteger scanned = new AtomicInteger();
+        final AtomicInteger skipped = new AtomicInteger();
+        final AtomicInteger unrecognized = new AtomicInteger();
+        final AtomicInteger ingested = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+
+        Progress snapshot(long elapsedNanos, boolean done) {
+            return new Progress(scanned.get(), skipped.get(), unrecognized.get(), ingested.get(),
+                    failed.get(), elapsedNanos / 1_000_000, done);
+        }
+    }
+
+    // Recibe el avance después de cada lote y al terminar (en el hilo que ejecuta run).
+    public interface ProgressListener {
+        void onProgress(Progress progress);
+    }
+
+    // Estado de la importación
+    public static final class Progress {
+        private final int scanned;
+        private final int skipped;
+        private final int unrecognized;
+        private final int ingested;
+        private final int failed;
+        private final long elapsedMillis;
+        private final boolean done;
+
+        Progress(int scanned, int skipped, int unrecognized, int ingested, int failed,
+                 long elapsedMillis, boolean done) {
+            this.scanned = scanned;
+            this.skipped = skipped;
+            this.unrecognized = unrecognized;
+            this.ingested = ingested;
+            this.failed = failed;
+            this.elapsedMillis = elapsedMillis;
+            this.done = done;
+        }
+
+        public int getScanned() { return scanned; }
+        public int getSkipped() { return skipped; }
+        public int getUnrecognized() { return unrecognized; }
+        public int getIngested() { return ingested; }
+        public int getFailed() { return failed; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        public boolean isDone() { return done; }
+
+        @Override
+        public String toString() {
+            return ingested + " importados, " + skipped + " ya importados, " + unrecognized
+                    + " no reconocidos, " + failed + " con error de " + scanned + " archivos";
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package controller;
+
+import model.Content;
+import model.TextNormalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Índice para búsqueda tolerante a errores de escritura.
+// - El vocabulario son las palabras de títulos y autores sin tildes ni mayúsculas (las claves que
+//   Content ya tiene calculadas); cada palabra guarda los contenidos que la usan.
+// - Un índice de trigramas sobre el vocabulario descarta candidatos: una palabra a k ediciones de la
+//   consulta comparte al menos (n + 2) - 3k de sus n + 2 trigramas (cada edición rompe a lo sumo 3).
+// - Los candidatos que pasan el filtro se verifican con una distancia de Levenshtein acotada a k.
+// Así una consulta nunca compara contra todo el vocabulario ni contra todos los contenidos.
+public class FuzzyIndex {
+    private static final char PAD = '\u0000';
+
+    private final Map<String, Word> words;
+    private final Map<Long, List<Word>> wordsByTrigram;
+    private final Map<String, List<Word>> wordsByContent;
+
+    // Constructor de un índice vacío.
+    public FuzzyIndex() {
+        this.words = new HashMap<>();
+        this.wordsByTrigram = new HashMap<>();
+        this.wordsByContent = new HashMap<>();
+    }
+
+    // Agrega las palabras de un contenido.
+    public synchronized void add(Content content) {
+        List<Word> contentWords = new ArrayList<>();
+        for (String token : tokens(content)) {
+            Word word = words.get(token);
+            if (word == null) {
+                word = new Word(token);
+                words.put(token, word);
+                for (long trigram : trigrams(token)) {
+                    wordsByTrigram.computeIfAbsent(trigram, t -> new ArrayList<>(1)).add(word);
+                }
+            }
+            word.contentIds.add(content.getId());
+            contentWords.add(word);
+        }
+        wordsByContent.put(content.getId(), contentWords);
+    }
+
+    // Actualiza las palabras de un contenido editado.
+    public synchronized void update(Content content) {
+        remove(content.getId());
+        add(content);
+    }
+
+    // Quita las palabras de un contenido eliminado.
+    public synchronized void remove(String contentId) {
+        List<Word> contentWords = wordsByContent.remove(contentId);
+        if (contentWords == null) {
+            return;
+        }
+        for (Word word : contentWords) {
+            word.contentIds.remove(contentId);
+            if (word.contentIds.isEmpty()) {
+                words.remove(word.text);
+                for (long trigram : trigrams(word.text)) {
+                    List<Word> list = wordsByTrigram.get(trigram);
+                    list.remove(word);
+                    if (list.isEmpty()) {
+                        wordsByTrigram.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+
+    // Busca contenidos que tengan todas las palabras de la consulta a lo sumo a maxEdits ediciones.
+    // Devuelve la suma de distancias por id de contenido (0 = coincidencia exacta de todas las palabras).
+    // El límite se reduce en palabras cortas para que el filtro de trigramas siga siendo útil.
+    public synchronized Map<String, Integer> search(String query, int maxEdits) {
+        Map<String, Integer> result = null;
+        for (String token : tokenize(query)) {
+            int bound = Math.max(0, Math.min(maxEdits, maxEditsFor(token)));
+            Map<String, Integer> matches = new HashMap<>();
+            for (Map.Entry<Word, Integer> candidate : matchWord(token, bound).entrySet()) {
+                for (String id : candidate.getKey().contentIds) {
+                    matches.merge(id, candidate.getValue(), Math::min);
+                }
+            }
+            if (result == null) {
+                result = matches;
+            } else {
+                Map<String, Integer> combined = new HashMap<>();
+                Map<String, Integer> small = result.size() <= matches.size() ? result : matches;
+                Map<String, Integer> large = small == result ? matches : result;
+                for (Map.Entry<String, Integer> entry : small.entrySet()) {
+                    Integer other = large.get(entry.getKey());
+                    if (other != null) {
+                        combined.put(entry.getKey(), entry.getValue() + other);
+                    }
+                }
+                result = combined;
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result != null ? result : new HashMap<>();
+    }
+
+    // Cantidad de palabras distintas en el vocabulario.
+    public synchronized int vocabularySize() {
+        return words.size();
+    }
+
+    // Mayor k con el que el filtro aún exige al menos un trigrama común: (n + 2) - 3k >= 1.
+    static int maxEditsFor(String token) {
+        return (token.length() + 1) / 3;
+    }
+
+    // Palabras del vocabulario a lo sumo a maxEdits ediciones del token, con su distancia.
+    private Map<Word, Integer> matchWord(String token, int maxEdits) {
+        Map<Word, Integer> matches = new HashMap<>();
+        if (maxEdits == 0) {
+            Word exact = words.get(token);
+            if (exact != null) {
+                matches.put(exact, 0);
+            }
+            return matches;
+        }
+
+        long[] trigrams = trigrams(token);
+        int required = trigrams.length - 3 * maxEdits;
+        Map<Word, Integer> shared = new HashMap<>();
+        for (long trigram : trigrams) {
+            List<Word> list = wordsByTrigram.get(trigram);
+            if (list != null) {
+                for (Word word : list) {
+                    shared.merge(word, 1, Integer::sum);
+                }
+            }
+        }
+        for (Map.Entry<Word, Integer> entry : shared.entrySet()) {
+            Word word = entry.getKey();
+            if (entry.getValue() < required || Math.abs(word.text.length() - token.length()) > maxEdits) {
+                continue;
+            }
+            int distance = boundedLevenshtein(token, word.text, maxEdits);
+            if (distance <= maxEdits) {
+                matches.put(word, distance);
+            }
+        }
+        return matches;
+    }
+
+    // Distancia de Levenshtein calculando solo la franja diagonal de ancho 2k + 1;
+    // devuelve maxEdits + 1 en cuanto se sabe que la distancia lo supera.
+    static int boundedLevenshtein(String a, String b, int maxEdits) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > maxEdits) {
+            return maxEdits + 1;
+        }
+        int over = maxEdits + 1;
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j <= maxEdits ? j : over;
+        }
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - maxEdits);
+            int to = Math.min(m, i + maxEdits);
+            current[0] = i <= maxEdits ? i : over;
+            if (from > 1) {
+                current[from - 1] = over;
+            }
+            int rowMin = current[0];
+            char ca = a.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(previous[j - 1] + cost, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(value, over);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < m) {
+                current[to + 1] = over;
+            }
+            if (rowMin > maxEdits) {
+                return over;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[m];
+    }
+
+    // Palabras distintas de título y autor (sin las que son solo números).
+    private static Set<String> tokens(Content content) {
+        Set<String> result = new HashSet<>(split(content.getTitleKey()));
+        result.addAll(split(content.getAuthorKey()));
+        return result;
+    }
+
+    static List<String> tokenize(String text) {
+        return split(TextNormalizer.fold(text));
+    }
+
+    // Separa un texto ya normalizado en palabras.
+    private static List<String> split(String normalized) {
+        List<String> result = new ArrayList<>();
+        int start = -1;
+        boolean letter = false;
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (start < 0) {
+                    start = i;
+                    letter = false;
+                }
+                letter |= Character.isLetter(c);
+            } else if (start >= 0) {
+                if (letter) {
+                    result.add(normalized.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+        return result;
+    }
+
+    // Trigramas con dos caracteres de relleno a cada lado, empaquetados en un long.
+    private static long[] trigrams(String word) {
+        int n = word.length();
+        long[] result = new long[n + 2];
+        for (int i = 0; i < n + 2; i++) {
+            long c1 = charAt(word, i - 2);
+            long c2 = charAt(word, i - 1);
+            long c3 = charAt(word, i);
+            result[i] = (c1 << 32) | (c2 << 16) | c3;
+        }
+        return result;
+    }
+
+    private static char charAt(String word, int index) {
+        return index >= 0 && index < word.length() ? word.charAt(index) : PAD;
+    }
+
+    // Palabra del vocabulario (solo se modifica con el monitor del índice)
+    private static final class Word {
+        final String text;
+        final Set<String> contentIds;
+
+        Word(String text) {
+            this.text = text;
+            this.contentIds = new HashSet<>(2);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package controller;
+
+import java.util.Collections;
+import java.util.List;
+
+// Página de resultados de una consulta paginada.
+// nextCursor apunta al último elemento de la página y se pasa a la siguiente consulta;
+// es null cuando no quedan más resultados.
+public class Page<T> {
+    private final List<T> items;
+    private final PageCursor nextCursor;
+
+    // Constructor de Page
+    public Page(List<T> items, PageCursor nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+    public List<T> getItems() { return items; }
+    public PageCursor getNextCursor() { return nextCursor; }
+    public boolean hasNext() { return nextCursor != null; }
+    public int size() { return items.size(); }
+}
@@ -0,0 +1,28 @@
+package controller;
+
+// Posición en un orden (paginación por clave): la clave de orden y el id del último
+// elemento entregado. La página siguiente empieza justo después de esa posición, así
+// que no se salta ni se repite nada aunque se agreguen o eliminen contenidos entre páginas.
+public final class PageCursor {
+    private final SortField field;
+    private final boolean ascending;
+    final Comparable<?> key;
+    final String id;
+
+    PageCursor(SortField field, boolean ascending, Comparable<?> key, String id) {
+        this.field = field;
+        this.ascending = ascending;
+        this.key = key;
+        this.id = id;
+    }
+
+    // Getters
+    public SortField getField() { return field; }
+    public boolean isAscending() { return ascending; }
+    public String getLastId() { return id; }
+
+    @Override
+    public String toString() {
+        return field + (ascending ? " ↑ " : " ↓ ") + "después de " + id;
+    }
+}
@@ -0,0 +1,247 @@
+package controller;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// Programador de publicaciones y despublicaciones futuras.
+// Las tareas viven en una TimingWheel (O(1) por tarea) y se entregan en lotes al vencer.
+// Cada cambio se agrega a un diario en disco que se reproduce al reiniciar; el diario se
+// compacta cuando crece mucho más que la cantidad de tareas vigentes.
+// La entrega es al menos una vez: la línea F de una tarea se escribe después de onDue, así que
+// un cierre durante la entrega la repite al reiniciar; publicar o despublicar de nuevo no cambia
+// el resultado.
+public class PublishScheduler {
+    // Acción programada sobre un contenido
+    public enum Action { PUBLISH, UNPUBLISH }
+
+    private static final long TICK_MILLIS = 100;
+    private static final int TICKS_PER_WHEEL = 512;
+    private static final int MIN_COMPACT_LINES = 1024;
+
+    private final Path journal;
+    private final TimingWheel<Entry> wheel;
+    private final Map<String, TimingWheel.Timeout<Entry>> byKey;
+    private final Consumer<List<Entry>> onDue;
+    // Tareas vencidas que se están entregando; la compactación las conserva en el diario
+    private final List<Entry> delivering;
+    private BufferedWriter writer;
+    private int journalLines;
+
+    // Constructor: journal puede ser null para no persistir las tareas.
+    public PublishScheduler(Path journal, Consumer<List<Entry>> onDue) {
+        this.journal = journal;
+        this.onDue = onDue;
+        this.byKey = new ConcurrentHashMap<>();
+        this.delivering = new ArrayList<>();
+        this.wheel = new TimingWheel<>(TICK_MILLIS, TICKS_PER_WHEEL, "publish-scheduler", this::dispatch);
+    }
+
+    // Recupera las tareas del diario e inicia la rueda; las vencidas se entregan en el primer tic.
+    public synchronized void start() throws IOException {
+        if (journal != null) {
+            Map<String, Entry> live = replay();
+            for (Entry entry : live.values()) {
+                byKey.put(entry.key(), wheel.schedule(entry, entry.when));
+            }
+            compact();
+        }
+        wheel.start();
+    }
+
+    // Detiene la rueda y cierra el diario.
+    public void stop() {
+        wheel.stop();
+        synchronized (this) {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    System.err.println("No se pudo cerrar el diario de publicaciones: " + e.getMessage());
+                }
+                writer = null;
+            }
+        }
+    }
+
+    // Programa una acción; reemplaza la que hubiera para el mismo contenido y acción.
+    public synchronized void schedule(String contentId, Action action, Date when) {
+        Entry entry = new Entry(contentId, action, when.getTime());
+        append("S|" + action + "|" + contentId + "|" + entry.when, 1);
+        TimingWheel.Timeout<Entry> previous = byKey.put(entry.key(), wheel.schedule(entry, entry.when));
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    // Cancela una acción programada.
+    public synchronized boolean cancel(String contentId, Action action) {
+        TimingWheel.Timeout<Entry> timeout = byKey.remove(Entry.key(contentId, action));
+        if (timeout == null || !timeout.cancel()) {
+            return false;
+        }
+        append("C|" + action + "|" + contentId, 1);
+        return true;
+    }
+
+    // Obtiene la fecha programada para una acción, o null si no hay.
+    public Date getScheduled(String contentId, Action action) {
+        TimingWheel.Timeout<Entry> timeout = byKey.get(Entry.key(contentId, action));
+        return timeout != null && !timeout.isCancelled() ? new Date(timeout.getDeadline()) : null;
+    }
+
+    // Obtiene todas las tareas pendientes ordenadas por fecha.
+    public List<Entry> getAll() {
+        List<Entry> entries = new ArrayList<>();
+        for (TimingWheel.Timeout<Entry> timeout : byKey.values()) {
+            if (!timeout.isCancelled()) {
+                entries.add(timeout.getItem());
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::getWhenMillis));
+        return entries;
+    }
+
+    // Cantidad de tareas pendientes.
+    public int size() {
+        return wheel.size();
+    }
+
+    // Recibe un lote vencido desde la rueda. Si onDue falla, las tareas quedan en el diario
+    // y se vuelven a entregar al reiniciar.
+    private void dispatch(List<Entry> due) {
+        synchronized (this) {
+            delivering.addAll(due);
+        }
+        onDue.accept(due);
+        synchronized (this) {
+            StringBuilder lines = new StringBuilder();
+            for (Entry entry : due) {
+                // Solo se quita del índice si no fue reprogramada mientras tanto
+                byKey.computeIfPresent(entry.key(), (key, timeout) -> timeout.getItem() == entry ? null : timeout);
+                if (lines.length() > 0) {
+                    lines.append(System.lineSeparator());
+                }
+                lines.append("F|").append(entry.action).append('|').append(entry.contentId).append('|').append(entry.when);
+            }
+            delivering.removeAll(due);
+            append(lines.toString(), due.size());
+        }
+    }
+
+    // Agrega líneas al diario y lo compacta si creció demasiado (requiere el monitor).
+    private void append(String lines, int count) {
+        if (journal == null || writer == null) {
+            return;
+        }
+        try {
+            writer.write(lines);
+            writer.newLine();
+            writer.flush();
+            journalLines += count;
+            if (journalLines > MIN_COMPACT_LINES && journalLines > 2 * byKey.size()) {
+                compact();
+            }
+        } catch (IOException e) {
+            System.err.println("No se pudo escribir el diario de publicaciones: " + e.getMessage());
+        }
+    }
+
+    // Lee el diario y devuelve las tareas vigentes.
+    private Map<String, Entry> replay() throws IOException {
+        Map<String, Entry> live = new LinkedHashMap<>();
+        if (!Files.exists(journal)) {
+            return live;
+        }
+        for (String line : Files.readAllLines(journal, StandardCharsets.UTF_8)) {
+            String[] parts = line.split("\\|");
+            if (parts.length < 3) {
+                continue;
+            }
+            try {
+                Action action = Action.valueOf(parts[1]);
+                String key = Entry.key(parts[2], action);
+                if ("S".equals(parts[0]) && parts.length == 4) {
+                    live.put(key, new Entry(parts[2], action, Long.parseLong(parts[3])));
+                } else if ("F".equals(parts[0]) && parts.length == 4) {
+                    // Una entrega solo cierra la tarea que venció, no una reprogramada durante la entrega
+                    long when = Long.parseLong(parts[3]);
+                    Entry current = live.get(key);
+                    if (current != null && current.when == when) {
+                        live.remove(key);
+                    }
+                } else {
+                    live.remove(key);
+                }
+            } catch (IllegalArgumentException e) {
+                // Línea dañada (por ejemplo, cortada por un cierre abrupto): se ignora
+            }
+        }
+        return live;
+    }
+
+    // Reescribe el diario solo con las tareas vigentes (reemplazo atómico).
+    private void compact() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+        List<String> lines = new ArrayList<>();
+        // Las entregas en curso van primero: una reprogramación posterior las reemplaza al reproducir
+        List<Entry> entries = new ArrayList<>(delivering);
+        entries.addAll(getAll());
+        for (Entry entry : entries) {
+            lines.add("S|" + entry.action + "|" + entry.contentId + "|" + entry.when);
+        }
+        Path parent = journal.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "schedule", ".tmp");
+        Files.write(temp, lines, StandardCharsets.UTF_8);
+        Files.move(temp, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        writer = Files.newBufferedWriter(journal, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        journalLines = lines.size();
+    }
+
+    // Tarea programada
+    public static final class Entry {
+        private final String contentId;
+        private final Action action;
+        private final long when;
+
+        Entry(String contentId, Action action, long when) {
+            this.contentId = contentId;
+            this.action = action;
+            this.when = when;
+        }
+
+        static String key(String contentId, Action action) {
+            return action + "|" + contentId;
+        }
+
+        String key() {
+            return key(contentId, action);
+        }
+
+        public String getContentId() { return contentId; }
+        public Action getAction() { return action; }
+        public long getWhenMillis() { return when; }
+        public Date getWhen() { return new Date(when); }
+
+        @Override
+        public String toString() {
+            return action + " " + contentId + " @ " + new Date(when);
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package controller;
 
+import analytics.HyperLogLog;
+import analytics.QuantileSketch;
+import metrics.MetricsRegistry;
+import metrics.OperationMetrics;
 import model.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -12,6 +19,25 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 public class ReportController {
+    // Métricas por operación de agregación
+    private static final OperationMetrics GENERATE_REPORT_METRICS = metric("generateContentReport");
+    private static final OperationMetrics STATISTICS_METRICS = metric("getStatistics");
+    private static final OperationMetrics BY_CATEGORY_METRICS = metric("getContentsByCategory");
+    private static final OperationMetrics BY_AUTHOR_METRICS = metric("getContentsByAuthor");
+    private static final OperationMetrics MOST_RECENT_METRICS = metric("getMostRecentContent");
+    private static final OperationMetrics STORAGE_METRICS = metric("getStorageByCategory");
+    private static final OperationMetrics PUBLISHED_BETWEEN_METRICS = metric("getPublishedBetween");
+    private static final OperationMetrics STALE_DRAFTS_METRICS = metric("getStaleDrafts");
+    private static final OperationMetrics ACTIVITY_HISTOGRAM_METRICS = metric("getActivityHistogram");
+    private static final OperationMetrics ACTIVITY_BREAKDOWN_METRICS = metric("getActivityBreakdown");
+    private static final OperationMetrics GROUPED_COUNTS_METRICS = metric("getGroupedCounts");
+    private static final OperationMetrics DISTINCT_AUTHORS_METRICS = metric("estimateDistinctAuthors");
+    private static final OperationMetrics DISTINCT_TAGS_METRICS = metric("estimateDistinctTagsByMonth");
+    private static final OperationMetrics QUANTILES_METRICS = metric("estimateQuantiles");
+    // Estado de los contenidos publicados en el cubo
+    private static final String PUBLISHED = "PUBLISHED";
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
     private ContentController contentController;
     private List<Report> reportList;
 
@@ -22,7 +48,8 @@ public class ReportController {
      */
     public ReportController(ContentController contentController) {
         this.contentController = contentController;
-        this.reportList = new ArrayList<>();
+        // Se generan pocos reportes y se leen desde varios hilos
+        this.reportList = new CopyOnWriteArrayList<>();
     }
 
     /**
@@ -31,27 +58,28 @@ public class ReportController {
      * @return reporte generado
      */
     public Report generateContentReport() {
-        Report report = new Report("Reporte General de Contenidos");
-
-        List<Content> allContent = contentController.getAllContent();
-        List<Content> published = contentController.getPublishedContent();
+        return GENERATE_REPORT_METRICS.time(() -> {
+            Report report = new Report("Reporte General de Contenidos");
 
-        // Estadísticas generales
-        report.addData("Total de contenidos", allContent.size());
-        report.addData("Contenidos publicados", published.size());
-        report.addData("Contenidos en borrador", allContent.size() - published.size());
+            // Totales leídos del cubo, sin recorrer los contenidos
+            ContentCube.View all = cube().view();
+            long total = all.total();
+            long published = all.slice(ContentCube.Dimension.STATUS, PUBLISHED).total();
+            Map<String, Long> byType = all.countsBy(ContentCube.Dimension.TYPE);
 
-        // Contenidos por tipo (demuestra polimorfismo)
-        long articles = allContent.stream().filter(c -> c instanceof Article).count();
-        long videos = allContent.stream().filter(c -> c instanceof Video).count();
-        long images = allContent.stream().filter(c -> c instanceof Image).count();
+            // Estadísticas generales
+            report.addData("Total de contenidos", (int) total);
+            report.addData("Contenidos publicados", (int) published);
+            report.addData("Contenidos en borrador", (int) (total - published));
 
-        report.addData("Artículos", articles);
-        report.addData("Videos", videos);
-        report.addData("Imágenes", images);
+            // Contenidos por tipo
+            report.addData("Artículos", byType.getOrDefault("Article", 0L));
+            report.addData("Videos", byType.getOrDefault("Video", 0L));
+            report.addData("Imágenes", byType.getOrDefault("Image", 0L));
 
-        reportList.add(report);
-        return report;
+            reportList.add(report);
+            return report;
+        });
     }
 
     /**
@@ -60,18 +88,23 @@ public class ReportController {
      * @return mapa con estadísticas clave
      */
     public Map<String, Integer> getStatistics() {
-        Map<String, Integer> stats = new HashMap<>();
+        return STATISTICS_METRICS.time(() -> {
+            Map<String, Integer> stats = new HashMap<>();
 
-        List<Content> allContent = contentController.getAllContent();
+            ContentCube.View all = cube().view();
+            int total = (int) all.total();
+            int published = (int) all.slice(ContentCube.Dimension.STATUS, PUBLISHED).total();
+            Map<String, Long> byType = all.countsBy(ContentCube.Dimension.TYPE);
 
-        stats.put("Total", allContent.size());
-        stats.put("Publicados", (int) allContent.stream().filter(Content::isPublished).count());
-        stats.put("Borradores", (int) allContent.stream().filter(c -> !c.isPublished()).count());
-        stats.put("Artículos", (int) allContent.stream().filter(c -> c instanceof Article).count());
-        stats.put("Videos", (int) allContent.stream().filter(c -> c instanceof Video).count());
-        stats.put("Imágenes", (int) allContent.stream().filter(c -> c instanceof Image).count());
+            stats.put("Total", total);
+            stats.put("Publicados", published);
+            stats.put("Borradores", total - published);
+            stats.put("Artículos", byType.getOrDefault("Article", 0L).intValue());
+            stats.put("Videos", byType.getOrDefault("Video", 0L).intValue());
+            stats.put("Imágenes", byType.getOrDefault("Image", 0L).intValue());
 
-        return stats;
+            return stats;
+        });
     }
 
     /**
@@ -80,13 +113,26 @@ public class ReportController {
      * @return mapa con cantidad de contenidos por categoría
      */
     public Map<Category, Integer> getContentsByCategory() {
-        List<Content> allContent = contentController.getAllContent();
+        return BY_CATEGORY_METRICS.time(() -> {
+            Map<Category, Long> counts = cube().view().countsBy(ContentCube.Dimension.CATEGORY);
+            return toIntegers(counts);
+        });
+    }
 
-        return allContent.stream()
-                .collect(Collectors.groupingBy(
-                        Content::getCategory,
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
+    /**
+     * Calcula el almacenamiento estimado de imágenes por categoría.
+     * Suma los tamaños ya calculados de cada imagen, sin volver a interpretar dimensiones.
+     *
+     * @return mapa con bytes estimados por categoría
+     */
+    public Map<Category, Long> getStorageByCategory() {
+        return STORAGE_METRICS.time(() -> {
+            Map<Category, Long> storage = new HashMap<>();
+            for (Content content : contentController.filterByType("Image")) {
+                storage.merge(content.getCategory(), ((Image) content).getFileSize(), Long::sum);
+            }
+            return storage;
+        });
     }
 
     /**
@@ -95,13 +141,118 @@ public class ReportController {
      * @return mapa con cantidad de contenidos por autor
      */
     public Map<String, Integer> getContentsByAuthor() {
-        List<Content> allContent = contentController.getAllContent();
+        return BY_AUTHOR_METRICS.time(() -> {
+            Map<String, Long> counts = cube().view().countsBy(ContentCube.Dimension.AUTHOR);
+            return toIntegers(counts);
+        });
+    }
+
+    /**
+     * Cuenta contenidos agrupando por cualquier combinación de dimensiones del cubo.
+     * Las cantidades salen de celdas ya agregadas; el costo depende de la cantidad de
+     * celdas, no de la cantidad de contenidos.
+     *
+     * @param groupBy dimensiones del desglose, en orden
+     * @param slice valores fijos por dimensión (puede estar vacío)
+     * @return cantidad por combinación de valores, en el orden de groupBy
+     */
+    public Map<List<Object>, Long> getGroupedCounts(List<ContentCube.Dimension> groupBy,
+                                                    Map<ContentCube.Dimension, Object> slice) {
+        return GROUPED_COUNTS_METRICS.time(() -> {
+            ContentCube.View view = cube().view();
+            for (Map.Entry<ContentCube.Dimension, Object> fixed : slice.entrySet()) {
+                view = view.slice(fixed.getKey(), fixed.getValue());
+            }
+            for (ContentCube.Dimension dimension : groupBy) {
+                view = view.drillDown(dimension);
+            }
+            return view.counts();
+        });
+    }
+
+    /**
+     * Estima la cantidad de autores distintos por categoría con HyperLogLog
+     * (error relativo típico de 1.6%; casi exacto con pocos autores).
+     *
+     * @return estimación por categoría
+     */
+    public Map<Category, Long> estimateDistinctAuthorsByCategory() {
+        return DISTINCT_AUTHORS_METRICS.time(() -> {
+            Map<Category, Long> result = new LinkedHashMap<>();
+            for (Map.Entry<Category, HyperLogLog> entry : contentController.getSketches().getAuthorsByCategory().entrySet()) {
+                result.put(entry.getKey(), entry.getValue().estimate());
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Estima la cantidad de autores distintos de todo el catálogo combinando los sketches
+     * de cada categoría (un autor en varias categorías se cuenta una vez).
+     *
+     * @return estimación de autores distintos
+     */
+    public long estimateDistinctAuthors() {
+        return DISTINCT_AUTHORS_METRICS.time(() -> {
+            HyperLogLog union = new HyperLogLog();
+            for (HyperLogLog authors : contentController.getSketches().getAuthorsByCategory().values()) {
+                union.merge(authors);
+            }
+            return union.estimate();
+        });
+    }
+
+    /**
+     * Estima la cantidad de etiquetas distintas usadas por los contenidos creados cada mes.
+     *
+     * @return estimación por mes, en orden cronológico
+     */
+    public Map<YearMonth, Long> estimateDistinctTagsByMonth() {
+        return DISTINCT_TAGS_METRICS.time(() -> {
+            Map<YearMonth, Long> result = new TreeMap<>();
+            for (Map.Entry<YearMonth, HyperLogLog> entry : contentController.getSketches().getTagsByMonth().entrySet()) {
+                result.put(entry.getKey(), entry.getValue().estimate());
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Estima cuantiles de la cantidad de palabras de los artículos (error relativo menor a 1%).
+     *
+     * @param quantiles cuantiles entre 0 y 1 (por ejemplo 0.5, 0.9, 0.99)
+     * @return valor estimado de cada cuantil, o NaN si no hay artículos
+     */
+    public double[] estimateWordCountQuantiles(double... quantiles) {
+        return estimateQuantiles(contentController.getSketches().getWordCounts(), quantiles);
+    }
+
+    /**
+     * Estima cuantiles de la duración de los videos en segundos (error relativo menor a 1%).
+     *
+     * @param quantiles cuantiles entre 0 y 1
+     * @return valor estimado de cada cuantil, o NaN si no hay videos
+     */
+    public double[] estimateVideoDurationQuantiles(double... quantiles) {
+        return estimateQuantiles(contentController.getSketches().getVideoDurations(), quantiles);
+    }
+
+    /**
+     * Recalcula los resúmenes aproximados desde el catálogo actual, descartando autores y
+     * etiquetas que ya no se usan.
+     */
+    public void rebuildSketches() {
+        contentController.rebuildSketches();
+    }
 
-        return allContent.stream()
-                .collect(Collectors.groupingBy(
-                        Content::getAuthor,
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
+    private static double[] estimateQuantiles(QuantileSketch sketch, double[] quantiles) {
+        return QUANTILES_METRICS.time(() -> {
+            double[] result = new double[quantiles.length];
+            for (int i = 0; i < quantiles.length; i++) {
+                result[i] = sketch.quantile(quantiles[i]);
+            }
+            return result;
+        });
     }
 
     /**
@@ -111,10 +262,91 @@ public class ReportController {
      * @return lista de contenidos recientes
      */
     public List<Content> getMostRecentContent(int limit) {
-        return contentController.getAllContent().stream()
-                .sorted((c1, c2) -> c2.getCreationDate().compareTo(c1.getCreationDate()))
-                .limit(limit)
-                .collect(Collectors.toList());
+        return MOST_RECENT_METRICS.time(() -> {
+            return contentController.getAllContent().stream()
+                    .sorted((c1, c2) -> c2.getCreationDate().compareTo(c1.getCreationDate()))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    /**
+     * Obtiene los contenidos publicados en los últimos días, del más reciente al más antiguo.
+     * Usa el índice de fechas de publicación: no recorre todo el catálogo.
+     *
+     * @param days cantidad de días hacia atrás desde ahora
+     * @return lista de contenidos publicados en el período
+     */
+    public List<Content> getRecentlyPublished(int days) {
+        return PUBLISHED_BETWEEN_METRICS.time(() -> {
+            long now = System.currentTimeMillis();
+            List<Content> published = contentController.getPublishedBetween(
+                    new Date(now - days * DAY_MILLIS), null);
+            Collections.reverse(published);
+            return published;
+        });
+    }
+
+    /**
+     * Obtiene los borradores que nadie modificó en los últimos días, del más antiguo al más reciente.
+     *
+     * @param days días sin modificaciones
+     * @return lista de borradores abandonados
+     */
+    public List<Content> getStaleDrafts(int days) {
+        return STALE_DRAFTS_METRICS.time(() -> {
+            return contentController.getStaleDrafts(days);
+        });
+    }
+
+    /**
+     * Obtiene la actividad por intervalo (día, semana o mes) a partir de los contadores
+     * que el controlador de contenidos mantiene con cada cambio; no recorre el historial.
+     *
+     * @param granularity tamaño de los intervalos
+     * @param activity actividad a contar
+     * @param from primer día incluido
+     * @param to primer día excluido
+     * @param type tipo de contenido, o null para todos
+     * @param category categoría, o null para todas
+     * @return cantidad por inicio de intervalo, con cero en los intervalos sin actividad
+     */
+    public SortedMap<LocalDate, Long> getActivityHistogram(ActivityCounters.Granularity granularity,
+                                                           ActivityCounters.Activity activity,
+                                                           LocalDate from, LocalDate to,
+                                                           String type, Category category) {
+        return ACTIVITY_HISTOGRAM_METRICS.time(() -> {
+            return contentController.getActivityCounters()
+                    .histogram(granularity, activity, from, to, type, category);
+        });
+    }
+
+    /**
+     * Obtiene el total de una actividad por tipo de contenido en un período.
+     *
+     * @param activity actividad a contar
+     * @param from primer día incluido
+     * @param to primer día excluido
+     * @return cantidad por tipo
+     */
+    public Map<String, Long> getActivityByType(ActivityCounters.Activity activity, LocalDate from, LocalDate to) {
+        return ACTIVITY_BREAKDOWN_METRICS.time(() -> {
+            return contentController.getActivityCounters().countByType(activity, from, to);
+        });
+    }
+
+    /**
+     * Obtiene el total de una actividad por categoría en un período.
+     *
+     * @param activity actividad a contar
+     * @param from primer día incluido
+     * @param to primer día excluido
+     * @return cantidad por categoría
+     */
+    public Map<Category, Long> getActivityByCategory(ActivityCounters.Activity activity, LocalDate from, LocalDate to) {
+        return ACTIVITY_BREAKDOWN_METRICS.time(() -> {
+            return contentController.getActivityCounters().countByCategory(activity, from, to);
+        });
     }
 
     /**
@@ -145,4 +377,26 @@ public class ReportController {
     public List<Report> getAllReports() {
         return new ArrayList<>(reportList);
     }
-}
\ No newline at end of file
+
+    private ContentCube cube() {
+        return contentController.getContentCube();
+    }
+
+    private static <K> Map<K, Integer> toIntegers(Map<K, Long> counts) {
+        Map<K, Integer> result = new HashMap<>();
+        for (Map.Entry<K, Long> entry : counts.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().intValue());
+        }
+        return result;
+    }
+
+    /**
+     * Obtiene las métricas de una operación de reportes.
+     *
+     * @param operation nombre de la operación
+     * @return métricas registradas
+     */
+    private static OperationMetrics metric(String operation) {
+        return MetricsRegistry.getDefault().operation("report." + operation);
+    }
+}
@@ -0,0 +1,167 @@
+package controller;
+
+import model.Session;
+import model.User;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Registro concurrente de sesiones activas indexado por token.
+// Las sesiones inactivas se descartan al consultarlas o mediante barridos periódicos, ya sea
+// en un hilo propio (startEviction) o de forma perezosa al abrir sesiones (setLazyEviction).
+public class SessionRegistry {
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private static final int TOKEN_BYTES = 24;
+
+    private final ConcurrentHashMap<String, Session> sessions;
+    private final SecureRandom random;
+    private final long idleTimeoutMillis;
+    private final AtomicLong nextSweepMillis;
+    private volatile long lazyEvictionMillis;
+    private ScheduledExecutorService evictionExecutor;
+
+    // Constructor con el tiempo de inactividad por defecto.
+    public SessionRegistry() {
+        this(DEFAULT_IDLE_TIMEOUT_MILLIS);
+    }
+
+    // Constructor con un tiempo de inactividad específico.
+    public SessionRegistry(long idleTimeoutMillis) {
+        if (idleTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("El tiempo de inactividad debe ser positivo");
+        }
+        this.sessions = new ConcurrentHashMap<>();
+        this.random = new SecureRandom();
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.nextSweepMillis = new AtomicLong();
+    }
+
+    // Abre una nueva sesión para el usuario y devuelve su token.
+    public Session open(User user) {
+        long now = System.currentTimeMillis();
+        sweepIfDue(now);
+        Session session;
+        do {
+            session = new Session(newToken(), user, now);
+        } while (sessions.putIfAbsent(session.getToken(), session) != null);
+        return session;
+    }
+
+    // Obtiene la sesión asociada al token y renueva su último acceso.
+    // Devuelve null si no existe o si expiró por inactividad.
+    public Session get(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (session.isExpired(now, idleTimeoutMillis)) {
+            sessions.remove(token, session);
+            return null;
+        }
+        session.touch(now);
+        return session;
+    }
+
+    // Cierra la sesión indicada.
+    public boolean close(String token) {
+        return token != null && sessions.remove(token) != null;
+    }
+
+    // Cierra todas las sesiones de un usuario.
+    public int closeAll(User user) {
+        int closed = 0;
+        for (Session session : sessions.values()) {
+            if (session.getUser() == user && sessions.remove(session.getToken(), session)) {
+                closed++;
+            }
+        }
+        return closed;
+    }
+
+    // Elimina las sesiones inactivas y devuelve cuántas se descartaron.
+    public int evictExpired() {
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        for (Session session : sessions.values()) {
+            if (session.isExpired(now, idleTimeoutMillis)
+                    && sessions.remove(session.getToken(), session)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    // Inicia un barrido periódico de sesiones expiradas en un hilo demonio.
+    public synchronized void startEviction(long periodMillis) {
+        if (evictionExecutor != null) {
+            return;
+        }
+        evictionExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "session-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictionExecutor.scheduleWithFixedDelay(this::evictExpired,
+                periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Activa el barrido perezoso: open barre las sesiones expiradas si pasaron periodMillis
+    // desde el barrido anterior. No usa hilos, así que crear muchos registros no cuesta nada;
+    // periodMillis <= 0 lo desactiva.
+    public void setLazyEviction(long periodMillis) {
+        this.lazyEvictionMillis = periodMillis;
+        nextSweepMillis.set(System.currentTimeMillis() + periodMillis);
+    }
+
+    // Detiene el barrido periódico.
+    public synchronized void stopEviction() {
+        if (evictionExecutor != null) {
+            evictionExecutor.shutdownNow();
+            evictionExecutor = null;
+        }
+    }
+
+    // Obtiene las sesiones activas.
+    public List<Session> getActiveSessions() {
+        return new ArrayList<>(sessions.values());
+    }
+
+    // Cantidad de sesiones registradas (incluye las expiradas aún no barridas).
+    public int size() {
+        return sessions.size();
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    // Barre si venció el período; solo el hilo que gana el compareAndSet hace el barrido.
+    private void sweepIfDue(long now) {
+        long period = lazyEvictionMillis;
+        if (period <= 0) {
+            return;
+        }
+        long due = nextSweepMillis.get();
+        if (now >= due && nextSweepMillis.compareAndSet(due, now + period)) {
+            evictExpired();
+        }
+    }
+
+    // Genera un token aleatorio seguro para URL.
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
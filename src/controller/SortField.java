@@ -0,0 +1,42 @@
+package controller;
+
+import model.Content;
+
+// Campos por los que se puede ordenar y paginar el catálogo.
+// Cada campo define la clave de orden que se guarda en su índice: textos con su
+// CollationKey en español, fechas como milisegundos e id, tipo y estado como texto.
+public enum SortField {
+    ID("ID"),
+    TITLE("Título"),
+    AUTHOR("Autor"),
+    CREATION_DATE("Fecha de creación"),
+    TYPE("Tipo"),
+    STATUS("Estado");
+
+    private final String label;
+
+    SortField(String label) {
+        this.label = label;
+    }
+
+    // Clave de orden de un contenido para este campo (se compara con compareTo).
+    Comparable<?> keyOf(Content content) {
+        switch (this) {
+            case ID: return content.getId();
+            case TITLE: return content.getTitleCollationKey();
+            case AUTHOR: return content.getAuthorCollationKey();
+            case CREATION_DATE: return content.getCreationDate().getTime();
+            case TYPE: return content.getContentType();
+            default: return content.getStatus();
+        }
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
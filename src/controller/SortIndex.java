@@ -0,0 +1,138 @@
+package controller;
+
+import model.Content;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+// Índices ordenados del catálogo, uno por cada SortField.
+// Cada índice es un árbol de (clave, id): la página que sigue a un cursor se obtiene con
+// tailSet en O(log n) y luego se recorren solo los elementos de la página.
+// Las claves se copian al indexar, así que un contenido modificado fuera del controlador
+// se puede reubicar con update aunque sus campos ya hayan cambiado.
+// No es seguro entre hilos: el ContentController lo usa bajo su candado.
+class SortIndex {
+    private final Map<SortField, TreeSet<Entry>> indexes;
+    private final Map<String, Entry[]> entriesById;
+
+    // Constructor de índices vacíos.
+    SortIndex() {
+        this.indexes = new EnumMap<>(SortField.class);
+        for (SortField field : SortField.values()) {
+            indexes.put(field, new TreeSet<>());
+        }
+        this.entriesById = new HashMap<>();
+    }
+
+    // Agrega un contenido a todos los índices.
+    void add(Content content) {
+        SortField[] fields = SortField.values();
+        Entry[] entries = new Entry[fields.length];
+        for (SortField field : fields) {
+            Entry entry = new Entry(field.keyOf(content), content.getId(), content);
+            entries[field.ordinal()] = entry;
+            indexes.get(field).add(entry);
+        }
+        entriesById.put(content.getId(), entries);
+    }
+
+    // Reubica un contenido en los índices cuya clave cambió.
+    void update(Content content) {
+        Entry[] entries = entriesById.get(content.getId());
+        if (entries == null) {
+            add(content);
+            return;
+        }
+        for (SortField field : SortField.values()) {
+            Entry previous = entries[field.ordinal()];
+            Comparable<?> key = field.keyOf(content);
+            if (previous.content != content || compareKeys(previous.key, key) != 0) {
+                TreeSet<Entry> index = indexes.get(field);
+                index.remove(previous);
+                Entry entry = new Entry(key, content.getId(), content);
+                index.add(entry);
+                entries[field.ordinal()] = entry;
+            }
+        }
+    }
+
+    // Quita un contenido de todos los índices.
+    void remove(String contentId) {
+        Entry[] entries = entriesById.remove(contentId);
+        if (entries != null) {
+            for (SortField field : SortField.values()) {
+                indexes.get(field).remove(entries[field.ordinal()]);
+            }
+        }
+    }
+
+    // Página de hasta size contenidos que cumplen el filtro (puede ser null), después del cursor.
+    Page<Content> page(SortField field, boolean ascending, PageCursor after, int size, Predicate<Content> filter) {
+        NavigableSet<Entry> view = ordered(field, ascending);
+        if (after != null) {
+            view = view.tailSet(new Entry(after.key, after.id, null), false);
+        }
+        List<Content> items = new ArrayList<>(Math.min(size, 1024));
+        Entry last = null;
+        boolean more = false;
+        for (Entry entry : view) {
+            if (filter != null && !filter.test(entry.content)) {
+                continue;
+            }
+            if (items.size() == size) {
+                more = true;
+                break;
+            }
+            items.add(entry.content);
+            last = entry;
+        }
+        PageCursor next = more ? new PageCursor(field, ascending, last.key, last.id) : null;
+        return new Page<>(items, next);
+    }
+
+    // Todos los contenidos que cumplen el filtro (puede ser null), en el orden del campo.
+    List<Content> sorted(SortField field, boolean ascending, Predicate<Content> filter) {
+        NavigableSet<Entry> view = ordered(field, ascending);
+        List<Content> result = new ArrayList<>(filter == null ? view.size() : 16);
+        for (Entry entry : view) {
+            if (filter == null || filter.test(entry.content)) {
+                result.add(entry.content);
+            }
+        }
+        return result;
+    }
+
+    private NavigableSet<Entry> ordered(SortField field, boolean ascending) {
+        TreeSet<Entry> index = indexes.get(field);
+        return ascending ? index : index.descendingSet();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareKeys(Comparable a, Comparable b) {
+        return a.compareTo(b);
+    }
+
+    // Posición de un contenido en un índice: clave de orden y, para desempatar, el id.
+    private static final class Entry implements Comparable<Entry> {
+        final Comparable<?> key;
+        final String id;
+        final Content content;
+
+        Entry(Comparable<?> key, String id, Content content) {
+            this.key = key;
+            this.id = id;
+            this.content = content;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int result = compareKeys(key, other.key);
+            return result != 0 ? result : id.compareTo(other.id);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Rueda de tiempo con hash (hashed timing wheel).
+// Programar y cancelar cuestan O(1): la tarea entra a una cola sin bloqueo y el hilo de la
+// rueda la coloca en la ranura de su tic; las tareas a más de una vuelta llevan un contador
+// de vueltas restantes. En cada tic se entregan juntas todas las tareas vencidas de la ranura.
+public class TimingWheel<T> {
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickMillis;
+    private final Bucket<T>[] wheel;
+    private final int mask;
+    private final Queue<Timeout<T>> pending;
+    private final Consumer<List<T>> dispatcher;
+    private final AtomicInteger size;
+    private final AtomicBoolean started;
+    private final String threadName;
+    private volatile Thread worker;
+    private long startMillis;
+    private long tick;
+
+    // Constructor: tickMillis es la resolución y ticksPerWheel se redondea a potencia de dos.
+    public TimingWheel(long tickMillis, int ticksPerWheel, String threadName, Consumer<List<T>> dispatcher) {
+        if (tickMillis <= 0 || ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("La resolución y el tamaño de la rueda deben ser positivos");
+        }
+        int buckets = Integer.highestOneBit(Math.max(1, ticksPerWheel - 1)) << 1;
+        this.tickMillis = tickMillis;
+        // El arreglo solo guarda Bucket<T> creados aquí
+        @SuppressWarnings("unchecked")
+        Bucket<T>[] table = (Bucket<T>[]) new Bucket<?>[buckets];
+        for (int i = 0; i < buckets; i++) {
+            table[i] = new Bucket<>();
+        }
+        this.wheel = table;
+        this.mask = buckets - 1;
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.dispatcher = dispatcher;
+        this.size = new AtomicInteger();
+        this.started = new AtomicBoolean();
+        this.threadName = threadName;
+    }
+
+    // Programa un elemento para la fecha indicada (milisegundos desde la época).
+    // Una fecha pasada se entrega en el siguiente tic.
+    public Timeout<T> schedule(T item, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(this, item, deadlineMillis);
+        size.incrementAndGet();
+        pending.add(timeout);
+        return timeout;
+    }
+
+    // Inicia el hilo demonio de la rueda.
+    public void start() {
+        if (started.compareAndSet(false, true)) {
+            startMillis = System.currentTimeMillis();
+            Thread thread = new Thread(this::run, threadName);
+            thread.setDaemon(true);
+            worker = thread;
+            thread.start();
+        }
+    }
+
+    // Detiene la rueda; las tareas sin entregar se descartan.
+    public void stop() {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Cantidad de tareas programadas y no entregadas ni canceladas.
+    public int size() {
+        return size.get();
+    }
+
+    private void run() {
+        while (worker == Thread.currentThread()) {
+            long deadline = startMillis + (tick + 1) * tickMillis;
+            long sleep = deadline - System.currentTimeMillis();
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            long now = System.currentTimeMillis();
+            transferPending();
+            List<T> due = wheel[(int) (tick & mask)].expire(now);
+            tick++;
+            if (!due.isEmpty()) {
+                try {
+                    dispatcher.accept(due);
+                } catch (RuntimeException e) {
+                    System.err.println("Error al entregar tareas programadas: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    // Coloca las tareas nuevas en su ranura (solo desde el hilo de la rueda).
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout<T> timeout = pending.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.cancelled.get()) {
+                continue;
+            }
+            long calculated = Math.max(0, (timeout.deadline - startMillis) / tickMillis);
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    // Tarea programada; permite cancelarla.
+    public static final class Timeout<T> {
+        private final TimingWheel<T> owner;
+        private final T item;
+        private final long deadline;
+        private final AtomicBoolean cancelled;
+        private long remainingRounds;
+        private Timeout<T> next;
+        private Timeout<T> prev;
+
+        Timeout(TimingWheel<T> owner, T item, long deadline) {
+            this.owner = owner;
+            this.item = item;
+            this.deadline = deadline;
+            this.cancelled = new AtomicBoolean();
+        }
+
+        // Cancela la tarea; se retira de su ranura en el siguiente paso de la rueda.
+        public boolean cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                owner.size.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public T getItem() { return item; }
+        public long getDeadline() { return deadline; }
+        public boolean isCancelled() { return cancelled.get(); }
+    }
+
+    // Ranura de la rueda: lista doblemente enlazada manipulada solo por el hilo de la rueda.
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        List<T> expire(long now) {
+            List<T> due = new ArrayList<>();
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.cancelled.get()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+                    remove(timeout);
+                    // Solo se entrega si nadie la canceló mientras tanto
+                    if (timeout.cancelled.compareAndSet(false, true)) {
+                        timeout.owner.size.decrementAndGet();
+                        due.add(timeout.item);
+                    }
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            return due;
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.next = null;
+            timeout.prev = null;
+        }
+    }
+}
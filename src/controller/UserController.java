@@ -2,18 +2,35 @@ package controller;
 
 import model.Administrator;
 import model.Editor;
+import model.Permission;
+import model.Session;
+import model.StaffUser;
 import model.User;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 // Controlador que gestiona la autenticación y administración de usuarios.
 public class UserController {
     private List<User> userList;
+    private ConcurrentMap<String, User> usersByUsername;
+    private SessionRegistry sessionRegistry;
     private User currentSession;
     
     // Constructor de UserController.
+    // Las sesiones expiradas se barren al abrir sesiones, sin un hilo por controlador.
     public UserController() {
-        this.userList = new ArrayList<>();
+        this(new SessionRegistry());
+        sessionRegistry.setLazyEviction(60_000);
+    }
+    
+    // Constructor con un registro de sesiones específico.
+    public UserController(SessionRegistry sessionRegistry) {
+        this.userList = new CopyOnWriteArrayList<>();
+        this.usersByUsername = new ConcurrentHashMap<>();
+        this.sessionRegistry = sessionRegistry;
         this.currentSession = null;
         initializeDefaultUsers();
     }
@@ -21,23 +38,45 @@ public class UserController {
     // Inicializa usuarios por defecto para pruebas.
     private void initializeDefaultUsers() {
         // Usuario administrador por defecto
-        userList.add(new Administrator("admin", "admin123", "admin@ega.com"));
+        registerUser(new Administrator("admin", "admin123", "admin@ega.com"));
         
         // Usuario editor por defecto
-        userList.add(new Editor("editor", "editor123", "editor@ega.com"));
+        registerUser(new Editor("editor", "editor123", "editor@ega.com"));
+        
+        // Usuario revisor con rol definido en roles.properties
+        registerUser(new StaffUser("revisor", "revisor123", "revisor@ega.com", "REVIEWER"));
     }
     
     // Inicia sesión con nombre de usuario y contraseña.
     public boolean login(String username, String password) {
-        for (User user : userList) {
-            if (user.getUsername().equals(username) && user.authenticate(password)) {
-                this.currentSession = user;
-                return true;
-            }
+        User user = authenticate(username, password);
+        if (user != null) {
+            this.currentSession = user;
+            return true;
         }
         return false;
     }
     
+    // Inicia una sesión independiente y devuelve su token, o null si las credenciales no son válidas.
+    public String openSession(String username, String password) {
+        User user = authenticate(username, password);
+        if (user == null) {
+            return null;
+        }
+        return sessionRegistry.open(user).getToken();
+    }
+    
+    // Obtiene el usuario de una sesión activa, o null si no existe o expiró.
+    public User getUserBySession(String token) {
+        Session session = sessionRegistry.get(token);
+        return session != null ? session.getUser() : null;
+    }
+    
+    // Cierra una sesión abierta con openSession.
+    public boolean closeSession(String token) {
+        return sessionRegistry.close(token);
+    }
+    
     // Cierra la sesión actual.
     public void logout() {
         this.currentSession = null;
@@ -45,27 +84,57 @@ public class UserController {
     
    // Valida si el usuario actual tiene permiso para una acción específica.
     public boolean validatePermission(String action) {
+        return validatePermission(Permission.fromName(action));
+    }
+    
+    // Valida si el usuario actual tiene el permiso indicado.
+    public boolean validatePermission(Permission permission) {
         if (currentSession == null) {
             return false;
         }
-        return currentSession.getPermissions().contains(action);
+        return currentSession.hasPermission(permission);
     }
     
     // Registra un nuevo usuario.
-    public boolean registerUser(User user) {
+    public synchronized boolean registerUser(User user) {
         if (user == null) {
             return false;
         }
         
-        // Verificar que no exista otro usuario con el mismo nombre
-        boolean exists = userList.stream()
-                .anyMatch(u -> u.getUsername().equals(user.getUsername()));
-        
-        if (!exists) {
-            userList.add(user);
-            return true;
+        // Verificar que no exista otro usuario con el mismo nombre. Una entrada cuyo usuario ya se
+        // llama distinto (cambió con setUsername sin pasar por updateUser) no reserva el nombre:
+        // ese usuario se vuelve a indexar por su nombre actual y el nombre queda libre.
+        String username = user.getUsername();
+        User existing = usersByUsername.get(username);
+        if (existing != null) {
+            if (username.equals(existing.getUsername())) {
+                return false;
+            }
+            usersByUsername.putIfAbsent(existing.getUsername(), existing);
         }
-        return false;
+        usersByUsername.put(username, user);
+        userList.add(user);
+        return true;
+    }
+    
+    // Cambia el nombre y el correo de un usuario registrado y lo vuelve a indexar por nombre.
+    // Devuelve false si el usuario no está registrado o si otro usuario ya usa el nombre nuevo.
+    public synchronized boolean updateUser(User user, String username, String email) {
+        if (user == null || username == null || usersByUsername.get(user.getUsername()) != user) {
+            return false;
+        }
+        String previous = user.getUsername();
+        if (!previous.equals(username)) {
+            if (usersByUsername.putIfAbsent(username, user) != null) {
+                return false;
+            }
+            user.setUsername(username);
+            usersByUsername.remove(previous, user);
+        }
+        if (email != null) {
+            user.setEmail(email);
+        }
+        return true;
     }
     
     // Obtiene el usuario actualmente autenticado.
@@ -84,10 +153,23 @@ public class UserController {
     }
     
     // Busca un usuario por nombre de usuario.
+    // Descarta la entrada si el nombre se cambió con setUsername sin pasar por updateUser.
     public User findUserByUsername(String username) {
-        return userList.stream()
-                .filter(u -> u.getUsername().equals(username))
-                .findFirst()
-                .orElse(null);
+        User user = username != null ? usersByUsername.get(username) : null;
+        return user != null && username.equals(user.getUsername()) ? user : null;
+    }
+    
+    // Obtiene el registro de sesiones concurrentes.
+    public SessionRegistry getSessionRegistry() {
+        return sessionRegistry;
+    }
+    
+    // Busca el usuario por nombre y verifica su contraseña.
+    private User authenticate(String username, String password) {
+        User user = findUserByUsername(username);
+        if (user != null && user.authenticate(password)) {
+            return user;
+        }
+        return null;
     }
 }
@@ -11,6 +11,9 @@ public interface ISearchable<T> {
     // Busca entidades por palabra clave
     List<T> searchByKeyword(String keyword);
 
+    // Busca por palabras clave tolerando hasta maxEdits errores de escritura por palabra
+    List<T> searchFuzzy(String keyword, int maxEdits);
+
     // Filtra por categoría
     List<T> filterByCategory(Category category);
 
@@ -0,0 +1,50 @@
+package media;
+
+import java.nio.file.Path;
+
+// Metadatos obtenidos de la cabecera de un archivo multimedia.
+public class MediaInfo {
+    // Tipo de medio detectado
+    public enum Kind { IMAGE, VIDEO }
+
+    private final Path path;
+    private final Kind kind;
+    private final String format;
+    private final int width;
+    private final int height;
+    private final int durationSeconds;
+
+    // Constructor de MediaInfo
+    public MediaInfo(Path path, Kind kind, String format, int width, int height, int durationSeconds) {
+        this.path = path;
+        this.kind = kind;
+        this.format = format;
+        this.width = width;
+        this.height = height;
+        this.durationSeconds = durationSeconds;
+    }
+
+    // Dimensiones en el formato que usa Image ("WIDTHxHEIGHT")
+    public String getDimensions() {
+        return width + "x" + height;
+    }
+
+    // Resolución en el formato que usa Video (por ejemplo "1080p"), o null si no hay pista de video
+    public String getResolution() {
+        return height > 0 ? height + "p" : null;
+    }
+
+    // Getters
+    public Path getPath() { return path; }
+    public Kind getKind() { return kind; }
+    public String getFormat() { return format; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getDurationSeconds() { return durationSeconds; }
+
+    @Override
+    public String toString() {
+        String base = format + " " + getDimensions();
+        return kind == Kind.VIDEO ? base + " " + durationSeconds + "s" : base;
+    }
+}
@@ -0,0 +1,226 @@
+package media;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Lee dimensiones, formato y duración de archivos multimedia sin decodificarlos.
+// Solo se leen cabeceras con lecturas posicionales pequeñas:
+// - PNG: el bloque IHDR (bytes 16 a 24).
+// - GIF: el descriptor lógico de pantalla (bytes 6 a 10).
+// - JPEG: se saltan segmentos hasta el primer SOFn.
+// - MP4/MOV: se recorren las cajas hasta moov y dentro de ella mvhd (duración) y tkhd (tamaño).
+//   Las cajas grandes como mdat se saltan por su tamaño, sin leerlas.
+public final class MediaProbe {
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int MAX_BOXES = 10_000;
+
+    private MediaProbe() {
+    }
+
+    // Analiza un archivo; devuelve null si el formato no es reconocido.
+    public static MediaInfo probe(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer head = read(channel, 0, 12);
+            if (head.remaining() < 12) {
+                return null;
+            }
+            if (startsWith(head, PNG_SIGNATURE)) {
+                return probePng(path, channel);
+            }
+            if (head.get(0) == 'G' && head.get(1) == 'I' && head.get(2) == 'F') {
+                return probeGif(path, channel);
+            }
+            if ((head.get(0) & 0xFF) == 0xFF && (head.get(1) & 0xFF) == 0xD8) {
+                return probeJpeg(path, channel);
+            }
+            if ("ftyp".equals(type(head, 4)) || "moov".equals(type(head, 4)) || "mdat".equals(type(head, 4))) {
+                return probeMp4(path, channel);
+            }
+            return null;
+        }
+    }
+
+    // Analiza en paralelo los archivos de un directorio (y sus subdirectorios).
+    // Los archivos no reconocidos o ilegibles se omiten. El resultado se ordena por ruta.
+    public static List<MediaInfo> probeDirectory(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        return files.parallelStream()
+                .map(MediaProbe::probeQuietly)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(MediaInfo::getPath))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static MediaInfo probeQuietly(Path path) {
+        try {
+            return probe(path);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MediaInfo probePng(Path path, FileChannel channel) throws IOException {
+        ByteBuffer ihdr = readFully(channel, 8, 16);
+        if (!"IHDR".equals(type(ihdr, 4))) {
+            return null;
+        }
+        return new MediaInfo(path, MediaInfo.Kind.IMAGE, "PNG", ihdr.getInt(8), ihdr.getInt(12), 0);
+    }
+
+    private static MediaInfo probeGif(Path path, FileChannel channel) throws IOException {
+        ByteBuffer screen = readFully(channel, 6, 4).order(ByteOrder.LITTLE_ENDIAN);
+        return new MediaInfo(path, MediaInfo.Kind.IMAGE, "GIF",
+                screen.getShort(0) & 0xFFFF, screen.getShort(2) & 0xFFFF, 0);
+    }
+
+    private static MediaInfo probeJpeg(Path path, FileChannel channel) throws IOException {
+        long position = 2;
+        long size = channel.size();
+        while (position + 4 <= size) {
+            ByteBuffer marker = readFully(channel, position, 4);
+            if ((marker.get(0) & 0xFF) != 0xFF) {
+                return null;
+            }
+            int code = marker.get(1) & 0xFF;
+            if (code == 0xFF) {
+                position++; // Relleno entre marcadores
+                continue;
+            }
+            if (code == 0xD8 || code == 0x01 || (code >= 0xD0 && code <= 0xD7)) {
+                position += 2; // Marcadores sin longitud
+                continue;
+            }
+            int length = marker.getShort(2) & 0xFFFF;
+            boolean startOfFrame = code >= 0xC0 && code <= 0xCF && code != 0xC4 && code != 0xC8 && code != 0xCC;
+            if (startOfFrame) {
+                ByteBuffer frame = readFully(channel, position + 4, 5);
+                return new MediaInfo(path, MediaInfo.Kind.IMAGE, "JPEG",
+                        frame.getShort(3) & 0xFFFF, frame.getShort(1) & 0xFFFF, 0);
+            }
+            if (code == 0xDA || code == 0xD9 || length < 2) {
+                return null; // Comienzan los datos sin haber encontrado el tamaño
+            }
+            position += 2 + length;
+        }
+        return null;
+    }
+
+    private static MediaInfo probeMp4(Path path, FileChannel channel) throws IOException {
+        long[] moov = findBox(channel, 0, channel.size(), "moov");
+        if (moov == null) {
+            return null;
+        }
+        int duration = 0;
+        int width = 0;
+        int height = 0;
+        long[] mvhd = findBox(channel, moov[0], moov[1], "mvhd");
+        if (mvhd != null) {
+            ByteBuffer box = readFully(channel, mvhd[0], (int) Math.min(32, mvhd[1] - mvhd[0]));
+            int version = box.get(0) & 0xFF;
+            long timescale = (version == 1 ? box.getInt(20) : box.getInt(12)) & 0xFFFFFFFFL;
+            long units = version == 1 ? box.getLong(24) : box.getInt(16) & 0xFFFFFFFFL;
+            if (timescale > 0) {
+                duration = (int) Math.min(Integer.MAX_VALUE, Math.round((double) units / timescale));
+            }
+        }
+
+        // La primera pista con ancho y alto es la de video
+        long position = moov[0];
+        long[] trak;
+        while ((trak = findBox(channel, position, moov[1], "trak")) != null) {
+            long[] tkhd = findBox(channel, trak[0], trak[1], "tkhd");
+            if (tkhd != null) {
+                ByteBuffer box = readFully(channel, tkhd[0], 1);
+                int offset = (box.get(0) & 0xFF) == 1 ? 88 : 76;
+                if (tkhd[1] - tkhd[0] >= offset + 8) {
+                    ByteBuffer size = readFully(channel, tkhd[0] + offset, 8);
+                    // Valores en punto fijo 16.16
+                    width = size.getInt(0) >>> 16;
+                    height = size.getInt(4) >>> 16;
+                    if (width > 0 && height > 0) {
+                        break;
+                    }
+                }
+            }
+            position = trak[1];
+        }
+        return new MediaInfo(path, MediaInfo.Kind.VIDEO, "MP4", width, height, duration);
+    }
+
+    // Busca una caja hija directa entre from y to; devuelve {inicio del contenido, fin de la caja}.
+    private static long[] findBox(FileChannel channel, long from, long to, String wanted) throws IOException {
+        long position = from;
+        for (int i = 0; i < MAX_BOXES && position + 8 <= to; i++) {
+            ByteBuffer header = readFully(channel, position, 8);
+            long size = header.getInt(0) & 0xFFFFFFFFL;
+            String type = type(header, 4);
+            int headerSize = 8;
+            if (size == 1) {
+                size = readFully(channel, position + 8, 8).getLong(0);
+                headerSize = 16;
+            } else if (size == 0) {
+                size = to - position; // Hasta el final del contenedor
+            }
+            if (size < headerSize) {
+                return null; // Caja dañada
+            }
+            if (type.equals(wanted)) {
+                return new long[]{position + headerSize, Math.min(to, position + size)};
+            }
+            position += size;
+        }
+        return null;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = read(channel, position, length);
+        if (buffer.remaining() < length) {
+            throw new EOFException("Cabecera incompleta");
+        }
+        return buffer;
+    }
+
+    private static boolean startsWith(ByteBuffer buffer, byte[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String type(ByteBuffer buffer, int offset) {
+        byte[] bytes = new byte[4];
+        for (int i = 0; i < 4; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
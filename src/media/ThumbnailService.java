@@ -0,0 +1,266 @@
+package media;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Genera miniaturas de archivos de imagen locales en segundo plano.
+// - Decodifica con ImageIO en un grupo acotado de hilos (la cola también es acotada).
+// - Reduce en pasos sucesivos a la mitad para conservar calidad con interpolación bilineal.
+// - Guarda cada miniatura en disco con el SHA-256 del archivo original como nombre,
+//   así dos rutas con el mismo contenido comparten miniatura.
+// - Las peticiones simultáneas del mismo archivo comparten un solo trabajo y las
+//   miniaturas recientes se mantienen en una caché LRU en memoria.
+public class ThumbnailService {
+    private static final int QUEUE_CAPACITY = 256;
+    private static volatile ThumbnailService defaultService;
+
+    private final Path cacheDir;
+    private final int maxSide;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, BufferedImage> memory;
+    private final ConcurrentHashMap<String, CompletableFuture<BufferedImage>> inFlight;
+
+    // Constructor: maxSide es el lado máximo de la miniatura en píxeles.
+    public ThumbnailService(Path cacheDir, int maxSide, int memoryEntries, int threads) {
+        if (maxSide <= 0 || memoryEntries <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Los parámetros de la caché de miniaturas deben ser positivos");
+        }
+        this.cacheDir = cacheDir;
+        this.maxSide = maxSide;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+                    Thread thread = new Thread(r, "thumbnail-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        this.memory = new LinkedHashMap<String, BufferedImage>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+                return size() > memoryEntries;
+            }
+        };
+        this.inFlight = new ConcurrentHashMap<>();
+    }
+
+    // Servicio compartido; el directorio se configura con -Dcms.thumbnails.dir.
+    public static ThumbnailService getDefault() {
+        ThumbnailService service = defaultService;
+        if (service == null) {
+            synchronized (ThumbnailService.class) {
+                service = defaultService;
+                if (service == null) {
+                    String dir = System.getProperty("cms.thumbnails.dir",
+                            Paths.get(System.getProperty("java.io.tmpdir"), "cms-thumbnails").toString());
+                    int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+                    service = new ThumbnailService(Paths.get(dir), 160, 256, threads);
+                    defaultService = service;
+                }
+            }
+        }
+        return service;
+    }
+
+    // Convierte la url de un Image en una ruta local, o null si no es un archivo local.
+    public static Path toLocalPath(String url) {
+        if (url == null || url.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            String value = url.trim();
+            Path path;
+            if (value.startsWith("file:")) {
+                path = Paths.get(URI.create(value));
+            } else if (value.contains("://")) {
+                return null;
+            } else {
+                path = Paths.get(value);
+            }
+            return Files.isRegularFile(path) ? path : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    // Obtiene la miniatura en memoria sin bloquear, o null si aún no está lista.
+    public BufferedImage getIfReady(Path source) {
+        try {
+            String key = memoryKey(source);
+            synchronized (memory) {
+                return memory.get(key);
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // Pide la miniatura de un archivo. El resultado se completa en un hilo de trabajo;
+    // si la cola está llena el futuro falla con RejectedExecutionException.
+    public CompletableFuture<BufferedImage> request(Path source) {
+        String key;
+        try {
+            key = memoryKey(source);
+        } catch (IOException e) {
+            return failed(e);
+        }
+        BufferedImage cached;
+        synchronized (memory) {
+            cached = memory.get(key);
+        }
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<BufferedImage> created = new CompletableFuture<>();
+        CompletableFuture<BufferedImage> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    BufferedImage thumbnail = load(source);
+                    synchronized (memory) {
+                        memory.put(key, thumbnail);
+                    }
+                    created.complete(thumbnail);
+                } catch (Throwable e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    // Detiene los hilos de trabajo.
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Carga desde la caché en disco o genera y guarda la miniatura.
+    private BufferedImage load(Path source) throws IOException {
+        byte[] bytes = Files.readAllBytes(source);
+        String hash = sha256(bytes);
+        Path cached = cacheDir.resolve(hash.substring(0, 2)).resolve(hash + "-" + maxSide + ".png");
+        if (Files.isRegularFile(cached)) {
+            BufferedImage image = ImageIO.read(cached.toFile());
+            if (image != null) {
+                return image;
+            }
+        }
+
+        BufferedImage thumbnail = downscale(decode(bytes), maxSide);
+        Files.createDirectories(cached.getParent());
+        Path temp = Files.createTempFile(cached.getParent(), hash, ".tmp");
+        try {
+            ImageIO.write(thumbnail, "png", temp.toFile());
+            Files.move(temp, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return thumbnail;
+    }
+
+    // Decodifica leyendo solo cada n-ésimo píxel cuando la imagen es mucho más grande que la miniatura.
+    private BufferedImage decode(byte[] bytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Formato de imagen no reconocido");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int side = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                // Se deja al menos el doble del tamaño final para que la reducción por pasos suavice
+                int subsampling = Math.max(1, side / (maxSide * 4));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Reduce a la mitad en cada paso hasta llegar al tamaño final.
+    static BufferedImage downscale(BufferedImage image, int maxSide) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) maxSide / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = image;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(current, 0, 0, width, height, null);
+            g.dispose();
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    // Clave de la caché en memoria: ruta, tamaño y fecha de modificación.
+    private String memoryKey(Path source) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+        return source.toAbsolutePath().normalize() + "|" + attributes.size() + "|"
+                + attributes.lastModifiedTime().toMillis();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable error) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+}
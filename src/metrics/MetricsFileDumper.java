@@ -0,0 +1,64 @@
+package metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Escribe periódicamente el reporte de métricas en un archivo local.
+// El archivo se reemplaza de forma atómica en cada volcado.
+public class MetricsFileDumper {
+    private final MetricsRegistry registry;
+    private final Path file;
+    private ScheduledExecutorService executor;
+
+    // Constructor de MetricsFileDumper.
+    public MetricsFileDumper(MetricsRegistry registry, Path file) {
+        this.registry = registry;
+        this.file = file;
+    }
+
+    // Inicia los volcados periódicos en un hilo demonio.
+    public synchronized void start(long periodSeconds) {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::dumpQuietly, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    // Detiene los volcados y escribe un último reporte.
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+            dumpQuietly();
+        }
+    }
+
+    // Escribe el reporte actual.
+    public void dump() throws IOException {
+        String content = "=== MÉTRICAS CMS === " + new Date() + "\n" + registry.getReport();
+        Path parent = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, "metrics", ".tmp");
+        Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void dumpQuietly() {
+        try {
+            dump();
+        } catch (IOException e) {
+            System.err.println("No se pudieron volcar las métricas: " + e.getMessage());
+        }
+    }
+}
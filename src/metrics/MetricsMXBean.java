@@ -0,0 +1,31 @@
+package metrics;
+
+import java.util.List;
+
+// Interfaz JMX para consultar las métricas de operaciones (por ejemplo desde JConsole).
+public interface MetricsMXBean {
+
+    // Nombres de las operaciones medidas
+    List<String> getOperationNames();
+
+    // Cantidad de llamadas de una operación
+    long getCount(String operation);
+
+    // Cantidad de errores de una operación
+    long getErrorCount(String operation);
+
+    // Latencia promedio en milisegundos
+    double getMeanMillis(String operation);
+
+    // Latencia del percentil indicado (0-100) en milisegundos
+    double getPercentileMillis(String operation, double percentile);
+
+    // Latencia máxima en milisegundos
+    double getMaxMillis(String operation);
+
+    // Resumen de todas las operaciones en texto
+    String getReport();
+
+    // Reinicia todas las métricas
+    void reset();
+}
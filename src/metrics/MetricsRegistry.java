@@ -0,0 +1,103 @@
+package metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Registro de métricas por operación.
+// Las clases obtienen su OperationMetrics una sola vez (en un campo) para que medir
+// en el camino crítico no requiera búsquedas ni crear objetos.
+public class MetricsRegistry implements MetricsMXBean {
+    public static final String OBJECT_NAME = "cms:type=Metrics";
+
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    private final Map<String, OperationMetrics> operations;
+
+    // Constructor de un registro vacío.
+    public MetricsRegistry() {
+        this.operations = new ConcurrentSkipListMap<>();
+    }
+
+    // Obtiene el registro compartido por la aplicación.
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    // Obtiene (o crea) las métricas de una operación.
+    public OperationMetrics operation(String name) {
+        return operations.computeIfAbsent(name, OperationMetrics::new);
+    }
+
+    // Registra este objeto como MBean en el servidor de la plataforma.
+    public void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Ya registrado
+        } catch (JMException e) {
+            System.err.println("No se pudo registrar el MBean de métricas: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<String> getOperationNames() {
+        return Collections.unmodifiableList(new ArrayList<>(operations.keySet()));
+    }
+
+    @Override
+    public long getCount(String operation) {
+        OperationMetrics metrics = operations.get(operation);
+        return metrics != null ? metrics.getCalls() : 0;
+    }
+
+    @Override
+    public long getErrorCount(String operation) {
+        OperationMetrics metrics = operations.get(operation);
+        return metrics != null ? metrics.getErrors() : 0;
+    }
+
+    @Override
+    public double getMeanMillis(String operation) {
+        OperationMetrics metrics = operations.get(operation);
+        return metrics != null ? metrics.getMeanNanos() / 1e6 : 0;
+    }
+
+    @Override
+    public double getPercentileMillis(String operation, double percentile) {
+        OperationMetrics metrics = operations.get(operation);
+        return metrics != null ? metrics.getHistogram().getPercentile(percentile) / 1e6 : 0;
+    }
+
+    @Override
+    public double getMaxMillis(String operation) {
+        OperationMetrics metrics = operations.get(operation);
+        return metrics != null ? metrics.getHistogram().getMax() / 1e6 : 0;
+    }
+
+    @Override
+    public String getReport() {
+        StringBuilder sb = new StringBuilder();
+        for (OperationMetrics metrics : operations.values()) {
+            if (metrics.getCalls() > 0 || metrics.getErrors() > 0) {
+                sb.append(metrics).append("\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void reset() {
+        for (OperationMetrics metrics : operations.values()) {
+            metrics.reset();
+        }
+    }
+}
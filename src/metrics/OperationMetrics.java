@@ -0,0 +1,95 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Métricas de una operación: llamadas, errores, tiempo total e histograma de latencias.
+public class OperationMetrics {
+    private final String name;
+    private final LongAdder calls;
+    private final LongAdder errors;
+    private final LongAdder totalNanos;
+    private final LatencyHistogram histogram;
+
+    // Constructor de OperationMetrics.
+    public OperationMetrics(String name) {
+        this.name = name;
+        this.calls = new LongAdder();
+        this.errors = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.histogram = new LatencyHistogram();
+    }
+
+    // Marca el inicio de una medición
+    public long start() {
+        return System.nanoTime();
+    }
+
+    // Registra una llamada iniciada con start()
+    public void stop(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    // Registra una llamada con su duración en nanosegundos
+    public void record(long nanos) {
+        calls.increment();
+        totalNanos.add(nanos);
+        histogram.record(nanos);
+    }
+
+    // Ejecuta y mide una operación: si termina bien cuenta como llamada con su duración,
+    // si lanza una excepción cuenta como error (sin duración) y la excepción sigue su curso
+    public <T> T time(Supplier<T> operation) {
+        long startNanos = start();
+        T result;
+        try {
+            result = operation.get();
+        } catch (RuntimeException | Error e) {
+            recordError();
+            throw e;
+        }
+        stop(startNanos);
+        return result;
+    }
+
+    // Igual que time, para operaciones sin resultado
+    public void run(Runnable operation) {
+        time(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    // Registra una llamada que terminó con error
+    public void recordError() {
+        errors.increment();
+    }
+
+    // Reinicia los contadores
+    public void reset() {
+        calls.reset();
+        errors.reset();
+        totalNanos.reset();
+        histogram.reset();
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public long getCalls() { return calls.sum(); }
+    public long getErrors() { return errors.sum(); }
+    public LatencyHistogram getHistogram() { return histogram; }
+
+    // Latencia promedio en nanosegundos
+    public double getMeanNanos() {
+        long count = calls.sum();
+        return count == 0 ? 0 : (double) totalNanos.sum() / count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-32s calls=%d errors=%d mean=%.3fms p50=%.3fms p99=%.3fms max=%.3fms",
+                name, getCalls(), getErrors(), getMeanNanos() / 1e6,
+                histogram.getPercentile(50) / 1e6, histogram.getPercentile(99) / 1e6,
+                histogram.getMax() / 1e6);
+    }
+}
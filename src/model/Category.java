@@ -1,59 +1,103 @@
 package model;
 
+import java.text.CollationKey;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 // Clase para representar categorías de contenido
 // Autor: Junior | Versión: 2.0
 public class Category {
+    // Versión de la estructura del árbol; cambia cada vez que se mueve una categoría
+    private static final AtomicInteger STRUCTURE_VERSION = new AtomicInteger();
+
     private String categoryId;
     private String name;
+    // Clave de orden del nombre, precalculada para no recalcularla al ordenar
+    private CollationKey nameCollationKey;
     private String description;
     private Category parentCategory;
     private List<Category> subcategories;
-    private int contentCount;
+    private final LongAdder contentCount;
 
     // Constructor con ID automático
     public Category(String name, String description) {
-        this.categoryId = UUID.randomUUID().toString();
-        this.name = name;
+        this.categoryId = IdGenerators.nextId();
+        setName(name);
         this.description = description;
         this.parentCategory = null;
         this.subcategories = new ArrayList<>();
-        this.contentCount = 0;
+        this.contentCount = new LongAdder();
     }
 
-    // Agrega una subcategoría
+    // Agrega una subcategoría (si tenía otro padre, se mueve)
     public void addSubcategory(Category category) {
-        if (category != null && !subcategories.contains(category)) {
-            subcategories.add(category);
-            category.setParentCategory(this);
+        if (category == null || category == this || category.parentCategory == this) {
+            return;
+        }
+        for (Category ancestor = this; ancestor != null; ancestor = ancestor.parentCategory) {
+            if (ancestor == category) {
+                throw new IllegalArgumentException("Una categoría no puede ser subcategoría de sí misma");
+            }
+        }
+        if (category.parentCategory != null) {
+            category.parentCategory.subcategories.remove(category);
         }
+        subcategories.add(category);
+        category.parentCategory = this;
+        STRUCTURE_VERSION.incrementAndGet();
     }
 
-    // Incrementa el número de contenidos
-    public void incrementContentCount() {
-        this.contentCount++;
+    // Quita una subcategoría directa
+    public void removeSubcategory(Category category) {
+        if (category != null && category.parentCategory == this) {
+            subcategories.remove(category);
+            category.parentCategory = null;
+            STRUCTURE_VERSION.incrementAndGet();
+        }
     }
 
-    // Decrementa el número de contenidos
-    public void decrementContentCount() {
-        if (this.contentCount > 0) {
-            this.contentCount--;
-        }
+    // Obtiene la versión actual de la estructura de categorías
+    public static int getStructureVersion() {
+        return STRUCTURE_VERSION.get();
+    }
+
+    // Incrementa el número de contenidos (seguro entre hilos, sin bloqueo).
+    // Lo llama Content: attach/detach al entrar o salir del catálogo, y setCategory al cambiar
+    // de categoría un contenido que ya está en él (resta de la anterior y suma a la nueva).
+    // Es del paquete para que cada decremento corresponda a un incremento anterior del mismo
+    // contenido: el contador nunca queda por debajo de los contenidos que hay en la categoría.
+    void incrementContentCount() {
+        this.contentCount.increment();
+    }
+
+    // Decrementa el número de contenidos; siempre en par con un incremento anterior
+    void decrementContentCount() {
+        this.contentCount.decrement();
     }
 
     // Getters y Setters principales
     public String getCategoryId() { return categoryId; }
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public void setName(String name) {
+        this.name = name;
+        this.nameCollationKey = TextNormalizer.sharedCollationKey(name);
+    }
+    public CollationKey getNameCollationKey() { return nameCollationKey; }
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
     public Category getParentCategory() { return parentCategory; }
-    public void setParentCategory(Category parentCategory) { this.parentCategory = parentCategory; }
-    public List<Category> getSubcategories() { return new ArrayList<>(subcategories); }
-    public int getContentCount() { return contentCount; }
+    public void setParentCategory(Category parentCategory) {
+        if (parentCategory != null) { parentCategory.addSubcategory(this); }
+        else if (this.parentCategory != null) { this.parentCategory.removeSubcategory(this); }
+    }
+    public List<Category> getSubcategories() { return Collections.unmodifiableList(subcategories); }
+    public int getContentCount() { return (int) Math.min(Integer.MAX_VALUE, getContentCountLong()); }
+    // sum() no es una foto atómica: leída mientras otro hilo suma y resta puede ver el decremento
+    // sin su incremento; el cero acota solo ese valor pasajero, con los pares ya aplicados es exacta
+    public long getContentCountLong() { return Math.max(0L, contentCount.sum()); }
 
     @Override
     public String toString() { return name; }
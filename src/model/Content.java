@@ -1,14 +1,14 @@
 package model;
 
 import interfaces.IPublishable;
+import java.text.CollationKey;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.UUID;
 
 // Clase base abstracta para todos los contenidos
 // Autor: Junior | Versión: 2.0
-public abstract class Content implements IPublishable {
+public abstract class Content implements IPublishable, Cloneable {
     protected String id;
     protected String title;
     protected String author;
@@ -18,10 +18,18 @@ public abstract class Content implements IPublishable {
     protected List<Tag> tags;
     protected String status; // DRAFT o PUBLISHED
     protected Date publishDate;
+    // Claves de búsqueda y ordenamiento, recalculadas al cambiar título o autor
+    private String titleKey;
+    private String authorKey;
+    private CollationKey titleCollationKey;
+    private CollationKey authorCollationKey;
+    // Solo un contenido del catálogo suma a los contadores de su categoría y etiquetas:
+    // ContentController llama attach al crearlo o confirmar una edición y detach al quitarlo
+    private boolean attached;
 
     // Constructor base con inicialización de atributos comunes
     public Content(String title, String author, Category category) {
-        this.id = UUID.randomUUID().toString();
+        this.id = IdGenerators.nextId();
         this.title = title;
         this.author = author;
         this.creationDate = new Date();
@@ -30,6 +38,8 @@ public abstract class Content implements IPublishable {
         this.tags = new ArrayList<>();
         this.status = "DRAFT";
         this.publishDate = null;
+        updateTitleKeys();
+        updateAuthorKeys();
     }
 
     // Método abstracto: publicación específica por tipo
@@ -61,24 +71,63 @@ public abstract class Content implements IPublishable {
     // Muestra información general del contenido
     public String getMetadata() {
         return String.format("ID: %s | Título: %s | Autor: %s | Estado: %s | Categoría: %s",
-                id.substring(0, 8), title, author, status, category.getName());
+                getShortId(), title, author, status, category.getName());
     }
 
     // Agrega una etiqueta
     public void addTag(Tag tag) {
         if (tag != null && !tags.contains(tag)) {
             tags.add(tag);
-            tag.incrementUsage();
+            if (attached) {
+                tag.incrementUsage();
+            }
         }
     }
 
     // Elimina una etiqueta
     public void removeTag(Tag tag) {
-        if (tags.remove(tag)) {
+        if (tags.remove(tag) && attached) {
             tag.decrementUsage();
         }
     }
 
+    // Suma el contenido a los contadores de su categoría y etiquetas (al entrar al catálogo)
+    public void attach() {
+        if (!attached) {
+            attached = true;
+            if (category != null) { category.incrementContentCount(); }
+            for (Tag tag : tags) {
+                tag.incrementUsage();
+            }
+        }
+    }
+
+    // Resta el contenido de los contadores (al salir del catálogo o ser reemplazado por una copia)
+    public void detach() {
+        if (attached) {
+            attached = false;
+            if (category != null) { category.decrementContentCount(); }
+            for (Tag tag : tags) {
+                tag.decrementUsage();
+            }
+        }
+    }
+
+    // Copia con el mismo id para editarla y confirmarla con ContentController.edit: quien
+    // lee el original no ve cambios a medias. La copia no está en el catálogo, así que sus
+    // cambios de etiquetas o categoría no tocan los contadores hasta que edit la confirma
+    // (y si no se confirma, nunca).
+    public Content copy() {
+        try {
+            Content copy = (Content) super.clone();
+            copy.tags = new ArrayList<>(tags);
+            copy.attached = false;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     // Obtiene el tipo de contenido
     public String getContentType() {
         return this.getClass().getSimpleName();
@@ -86,24 +135,39 @@ public abstract class Content implements IPublishable {
 
     // Getters y Setters principales
     public String getId() { return id; }
+    public String getShortId() { return IdGenerators.shortForm(id); }
     public String getTitle() { return title; }
-    public void setTitle(String title) { this.title = title; this.lastModified = new Date(); }
+    public void setTitle(String title) { this.title = title; this.lastModified = new Date(); updateTitleKeys(); }
     public String getAuthor() { return author; }
-    public void setAuthor(String author) { this.author = author; this.lastModified = new Date(); }
+    public void setAuthor(String author) { this.author = author; this.lastModified = new Date(); updateAuthorKeys(); }
+    public String getTitleKey() { return titleKey; }
+    public String getAuthorKey() { return authorKey; }
+    public CollationKey getTitleCollationKey() { return titleCollationKey; }
+    public CollationKey getAuthorCollationKey() { return authorCollationKey; }
     public Date getCreationDate() { return creationDate; }
     public Date getLastModified() { return lastModified; }
     public Category getCategory() { return category; }
 
     public void setCategory(Category category) {
-        if (this.category != null) { this.category.decrementContentCount(); }
+        if (attached && this.category != null) { this.category.decrementContentCount(); }
         this.category = category;
-        if (category != null) { category.incrementContentCount(); }
+        if (attached && category != null) { category.incrementContentCount(); }
         this.lastModified = new Date();
     }
 
     public List<Tag> getTags() { return new ArrayList<>(tags); }
     public String getStatus() { return status; }
 
+    private void updateTitleKeys() {
+        this.titleKey = TextNormalizer.fold(title);
+        this.titleCollationKey = TextNormalizer.collationKey(title);
+    }
+
+    private void updateAuthorKeys() {
+        this.authorKey = TextNormalizer.fold(author);
+        this.authorCollationKey = TextNormalizer.sharedCollationKey(author);
+    }
+
     @Override
     public String toString() {
         return String.format("[%s] %s - %s", getContentType(), title, status);
@@ -0,0 +1,8 @@
+package model;
+
+// Interfaz para generar identificadores únicos de entidades.
+public interface IdGenerator {
+
+    // Genera un nuevo identificador único
+    String nextId();
+}
@@ -0,0 +1,47 @@
+package model;
+
+import java.util.UUID;
+
+// Punto de acceso al generador de ids usado por las entidades del modelo.
+// Por defecto usa TimeOrderedIdGenerator; se puede reemplazar, por ejemplo, por randomUUID.
+public final class IdGenerators {
+    private static final IdGenerator RANDOM_UUID = () -> UUID.randomUUID().toString();
+
+    private static volatile IdGenerator defaultGenerator = new TimeOrderedIdGenerator();
+
+    private IdGenerators() {
+    }
+
+    // Genera un id con el generador por defecto
+    public static String nextId() {
+        return defaultGenerator.nextId();
+    }
+
+    // Obtiene el generador por defecto
+    public static IdGenerator getDefault() {
+        return defaultGenerator;
+    }
+
+    // Reemplaza el generador por defecto
+    public static void setDefault(IdGenerator generator) {
+        if (generator == null) {
+            throw new IllegalArgumentException("El generador no puede ser nulo");
+        }
+        defaultGenerator = generator;
+    }
+
+    // Generador basado en UUID.randomUUID (comportamiento anterior)
+    public static IdGenerator randomUuid() {
+        return RANDOM_UUID;
+    }
+
+    // Forma corta de un id para mostrar en pantalla.
+    // En los ids ordenados por tiempo se toman los caracteres del milisegundo y la secuencia,
+    // ya que el prefijo se repite entre ids creados en el mismo intervalo.
+    public static String shortForm(String id) {
+        if (id.length() == TimeOrderedIdGenerator.LENGTH) {
+            return id.substring(5, 13);
+        }
+        return id.substring(0, Math.min(8, id.length()));
+    }
+}
@@ -4,16 +4,24 @@ import java.util.Date;
 
 // Esta clase representa a una imagen como un tipo de contenido.
 public class Image extends Content {
+    // Lado máximo admitido en píxeles
+    public static final int MAX_SIDE = 100_000;
+    
     private String url;
     private String dimensions; // formato "WIDTHxHEIGHT"
     private String format; 
+    // Metadatos derivados de dimensions; se calculan una sola vez al asignarlas
+    private int width;
+    private int height;
+    private long fileSize;
+    private String formattedFileSize;
     
     
     // Constructor de Image.
     public Image(String title, String author, Category category, String url, String dimensions, String format) {
         super(title, author, category);
         this.url = url;
-        this.dimensions = dimensions;
+        applyDimensions(dimensions);
         this.format = format.toUpperCase();
     }
     
@@ -40,22 +48,49 @@ public class Image extends Content {
         return sb.toString();
     }
     
-    // Calcula el tamaño del archivo en bytes (estimado).
+    // Tamaño estimado del archivo en bytes (3 bytes por píxel con compresión de 50%).
     public long getFileSize() {
-        try {
-            String[] parts = dimensions.split("x");
-            int width = Integer.parseInt(parts[0]);
-            int height = Integer.parseInt(parts[1]);
-            
-            return (long) (width * height * 3 * 0.5);
-        } catch (Exception e) {
-            return 0;
-        }
+        return fileSize;
     }
     
     // Obtiene el tamaño del archivo en formato legible.
     public String getFormattedFileSize() {
-        long bytes = getFileSize();
+        return formattedFileSize;
+    }
+    
+    // Valida y separa un texto "WIDTHxHEIGHT" en {ancho, alto}.
+    public static int[] parseDimensions(String dimensions) {
+        if (dimensions == null) {
+            throw new IllegalArgumentException("Las dimensiones son requeridas");
+        }
+        String[] parts = dimensions.trim().toLowerCase().split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Dimensiones inválidas (use ANCHOxALTO): " + dimensions);
+        }
+        try {
+            int width = Integer.parseInt(parts[0].trim());
+            int height = Integer.parseInt(parts[1].trim());
+            if (width <= 0 || height <= 0 || width > MAX_SIDE || height > MAX_SIDE) {
+                throw new IllegalArgumentException("Las dimensiones deben estar entre 1 y " + MAX_SIDE + ": " + dimensions);
+            }
+            return new int[]{width, height};
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Dimensiones inválidas (use ANCHOxALTO): " + dimensions);
+        }
+    }
+    
+    // Asigna las dimensiones y recalcula los valores derivados.
+    private void applyDimensions(String dimensions) {
+        int[] size = parseDimensions(dimensions);
+        this.width = size[0];
+        this.height = size[1];
+        this.dimensions = width + "x" + height;
+        // Aritmética en long: width * height * 3 desborda int en imágenes grandes
+        this.fileSize = (long) width * height * 3 / 2;
+        this.formattedFileSize = formatBytes(fileSize);
+    }
+    
+    private static String formatBytes(long bytes) {
         if (bytes < 1024) {
             return bytes + " B";
         } else if (bytes < 1024 * 1024) {
@@ -80,10 +115,18 @@ public class Image extends Content {
     }
     
     public void setDimensions(String dimensions) {
-        this.dimensions = dimensions;
+        applyDimensions(dimensions);
         this.lastModified = new Date();
     }
     
+    public int getWidth() {
+        return width;
+    }
+    
+    public int getHeight() {
+        return height;
+    }
+    
     public String getFormat() {
         return format;
     }
@@ -0,0 +1,34 @@
+package model;
+
+// Permisos disponibles en el sistema.
+// Cada permiso ocupa un bit para que los roles puedan verificarse con una sola operación.
+public enum Permission {
+    CREATE,
+    EDIT,
+    DELETE,
+    PUBLISH;
+
+    private final int mask;
+
+    Permission() {
+        this.mask = 1 << ordinal();
+    }
+
+    // Obtiene el bit que representa al permiso.
+    public int getMask() {
+        return mask;
+    }
+
+    // Convierte un nombre de permiso en su valor, o null si no existe.
+    public static Permission fromName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (Permission permission : values()) {
+            if (permission.name().equalsIgnoreCase(name.trim())) {
+                return permission;
+            }
+        }
+        return null;
+    }
+}
@@ -11,7 +11,7 @@ public class Report {
     
    // Constructor de Report.
     public Report(String reportType) {
-        this.reportId = UUID.randomUUID().toString();
+        this.reportId = IdGenerators.nextId();
         this.reportType = reportType;
         this.generationDate = new Date();
         this.data = new HashMap<>();
@@ -0,0 +1,119 @@
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Clase que representa un rol con su conjunto de permisos precalculado.
+// Los roles se leen de roles.properties, por lo que se pueden agregar roles sin cambiar el código.
+public final class Role {
+    private static final String ROLES_RESOURCE = "/roles.properties";
+    private static final ConcurrentHashMap<String, Role> ROLES = new ConcurrentHashMap<>();
+
+    // Rol sin permisos para nombres desconocidos
+    public static final Role NONE = new Role("NONE", EnumSet.noneOf(Permission.class));
+
+    static {
+        define("ADMINISTRATOR", EnumSet.allOf(Permission.class));
+        define("EDITOR", EnumSet.of(Permission.CREATE, Permission.EDIT));
+        loadFromResource(ROLES_RESOURCE);
+    }
+
+    private final String name;
+    private final Set<Permission> permissions;
+    private final int mask;
+    private final List<String> permissionNames;
+
+    // Constructor privado: los roles se obtienen con forName o define.
+    private Role(String name, EnumSet<Permission> permissions) {
+        this.name = name;
+        this.permissions = Collections.unmodifiableSet(EnumSet.copyOf(permissions));
+        int bits = 0;
+        List<String> names = new ArrayList<>();
+        for (Permission permission : permissions) {
+            bits |= permission.getMask();
+            names.add(permission.name());
+        }
+        this.mask = bits;
+        this.permissionNames = Collections.unmodifiableList(names);
+    }
+
+    // Define (o redefine) un rol con sus permisos.
+    public static Role define(String name, EnumSet<Permission> permissions) {
+        Role role = new Role(normalize(name), permissions);
+        ROLES.put(role.name, role);
+        return role;
+    }
+
+    // Obtiene el rol por nombre; devuelve NONE si no está definido.
+    public static Role forName(String name) {
+        if (name == null) {
+            return NONE;
+        }
+        Role role = ROLES.get(normalize(name));
+        return role != null ? role : NONE;
+    }
+
+    // Obtiene todos los roles definidos.
+    public static Collection<Role> getAll() {
+        return Collections.unmodifiableCollection(ROLES.values());
+    }
+
+    // Carga roles desde un archivo de propiedades del classpath (ROL=PERMISO,PERMISO,...).
+    public static void loadFromResource(String resource) {
+        try (InputStream in = Role.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                return;
+            }
+            Properties properties = new Properties();
+            properties.load(in);
+            for (String roleName : properties.stringPropertyNames()) {
+                define(roleName, parsePermissions(properties.getProperty(roleName)));
+            }
+        } catch (IOException e) {
+            System.err.println("No se pudieron cargar los roles: " + e.getMessage());
+        }
+    }
+
+    // Verifica si el rol incluye el permiso (sin crear objetos).
+    public boolean hasPermission(Permission permission) {
+        return (mask & permission.getMask()) != 0;
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public Set<Permission> getPermissions() { return permissions; }
+    public int getMask() { return mask; }
+    public List<String> getPermissionNames() { return permissionNames; }
+
+    @Override
+    public String toString() { return name; }
+
+    private static EnumSet<Permission> parsePermissions(String value) {
+        EnumSet<Permission> permissions = EnumSet.noneOf(Permission.class);
+        if (value == null || value.trim().isEmpty()) {
+            return permissions;
+        }
+        for (String part : value.split(",")) {
+            Permission permission = Permission.fromName(part);
+            if (permission != null) {
+                permissions.add(permission);
+            } else {
+                System.err.println("Permiso desconocido en roles: " + part.trim());
+            }
+        }
+        return permissions;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,40 @@
+package model;
+
+import java.util.Date;
+
+// Clase que representa una sesión activa de un usuario autenticado.
+public class Session {
+    private final String token;
+    private final User user;
+    private final Date creationDate;
+    private volatile long lastAccess; // milisegundos desde epoch
+
+    // Constructor de Session.
+    public Session(String token, User user, long now) {
+        this.token = token;
+        this.user = user;
+        this.creationDate = new Date(now);
+        this.lastAccess = now;
+    }
+
+    // Marca la sesión como usada en el instante indicado.
+    public void touch(long now) {
+        this.lastAccess = now;
+    }
+
+    // Verifica si la sesión lleva más tiempo inactiva que el permitido.
+    public boolean isExpired(long now, long idleTimeoutMillis) {
+        return now - lastAccess > idleTimeoutMillis;
+    }
+
+    // Getters
+    public String getToken() { return token; }
+    public User getUser() { return user; }
+    public Date getCreationDate() { return creationDate; }
+    public long getLastAccess() { return lastAccess; }
+
+    @Override
+    public String toString() {
+        return user.getUsername() + " [" + token.substring(0, 8) + "...]";
+    }
+}
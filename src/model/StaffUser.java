@@ -0,0 +1,10 @@
+package model;
+
+// Usuario genérico cuyo rol se define en roles.properties (por ejemplo REVIEWER).
+public class StaffUser extends User {
+    
+    // Constructor de StaffUser.
+    public StaffUser(String username, String password, String email, String role) {
+        super(username, password, email, role);
+    }
+}
@@ -1,48 +1,52 @@
 package model;
 
-import java.util.UUID;
-
 // Clase que representa etiquetas para contenidos
+// Es inmutable: Tag.of devuelve la instancia compartida del registro, así que renombrar es
+// pasar a la etiqueta del nuevo nombre (ContentController.retag) y no cambiar esta.
 // Autor: Junior | Versión: 2.0
 public class Tag {
-    private String tagId;
-    private String name;
-    private int usageCount;
+    private final TagRegistry.Entry entry;
 
-    // Constructor con ID automático
+    // Constructor: las etiquetas con el mismo nombre comparten id y contador de uso
     public Tag(String name) {
-        this.tagId = UUID.randomUUID().toString();
-        this.name = name.toLowerCase().trim();
-        this.usageCount = 0;
+        this(TagRegistry.getDefault().entryFor(name));
     }
 
-    // Incrementa el contador de uso
-    public void incrementUsage() { this.usageCount++; }
+    // Constructor usado por el registro para la instancia canónica
+    Tag(TagRegistry.Entry entry) {
+        this.entry = entry;
+    }
 
-    // Decrementa el contador de uso
-    public void decrementUsage() {
-        if (this.usageCount > 0) {
-            this.usageCount--;
-        }
+    // Obtiene la etiqueta canónica del registro para un nombre
+    public static Tag of(String name) {
+        return TagRegistry.getDefault().intern(name);
     }
 
-    // Getters y Setters principales
-    public String getTagId() { return tagId; }
-    public String getName() { return name; }
-    public void setName(String name) { this.name = name.toLowerCase().trim(); }
-    public int getUsageCount() { return usageCount; }
+    // Incrementa el contador de uso (seguro entre hilos, sin bloqueo). Solo lo llama Content para
+    // un contenido del catálogo, así que cada decremento sigue a su incremento (ver Content.attach)
+    void incrementUsage() { entry.usage.increment(); }
+
+    // Decrementa el contador de uso; siempre en par con un incremento anterior
+    void decrementUsage() { entry.usage.decrement(); }
+
+    // Getters principales
+    public String getTagId() { return entry.tagId; }
+    public int getId() { return entry.id; }
+    public String getName() { return entry.name; }
+    public int getUsageCount() { return (int) Math.min(Integer.MAX_VALUE, entry.usage()); }
+    public long getUsageCountLong() { return entry.usage(); }
 
     @Override
-    public String toString() { return "#" + name; }
+    public String toString() { return "#" + entry.name; }
 
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Tag tag = (Tag) obj;
-        return name.equals(tag.name);
+        return entry.name.equals(tag.entry.name);
     }
 
     @Override
-    public int hashCode() { return name.hashCode(); }
+    public int hashCode() { return entry.name.hashCode(); }
 }
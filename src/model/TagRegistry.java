@@ -0,0 +1,176 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Registro global de etiquetas: interna cada etiqueta por su nombre normalizado,
+// le asigna un id entero denso y guarda su contador de uso en un solo lugar.
+public class TagRegistry {
+    private static final TagRegistry DEFAULT = new TagRegistry();
+
+    private final ConcurrentHashMap<String, Entry> byName;
+    private final ConcurrentSkipListMap<String, Entry> sortedByName;
+    private volatile Entry[] byId;
+    private volatile int size;
+
+    // Constructor de un registro vacío.
+    public TagRegistry() {
+        this.byName = new ConcurrentHashMap<>();
+        this.sortedByName = new ConcurrentSkipListMap<>();
+        this.byId = new Entry[16];
+        this.size = 0;
+    }
+
+    // Obtiene el registro compartido por toda la aplicación.
+    public static TagRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    // Normaliza el nombre de una etiqueta (minúsculas y sin espacios en los extremos).
+    // Locale.ROOT: con el idioma del sistema (por ejemplo, turco) "JAVA" y "java" no coincidirían.
+    public static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT).trim();
+    }
+
+    // Obtiene la etiqueta canónica para el nombre, creándola si no existe.
+    public Tag intern(String name) {
+        return entryFor(name).canonical;
+    }
+
+    // Busca una etiqueta existente por nombre; devuelve null si no está registrada.
+    public Tag lookup(String name) {
+        if (name == null) {
+            return null;
+        }
+        Entry entry = byName.get(normalize(name));
+        return entry != null ? entry.canonical : null;
+    }
+
+    // Obtiene una etiqueta por su id entero.
+    public Tag getById(int id) {
+        // Se lee size antes que byId: byId se publica antes de incrementar size
+        int count = size;
+        Entry[] entries = byId;
+        if (id < 0 || id >= count) {
+            return null;
+        }
+        return entries[id].canonical;
+    }
+
+    // Devuelve hasta limit etiquetas cuyo nombre empieza con el prefijo, en orden alfabético.
+    public List<Tag> complete(String prefix, int limit) {
+        if (prefix == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String from = normalize(prefix);
+        List<Tag> result = new ArrayList<>(Math.min(limit, 16));
+        for (Map.Entry<String, Entry> e : sortedByName.tailMap(from, true).entrySet()) {
+            if (!e.getKey().startsWith(from) || result.size() >= limit) {
+                break;
+            }
+            result.add(e.getValue().canonical);
+        }
+        return result;
+    }
+
+    // Devuelve las n etiquetas más usadas, de mayor a menor uso.
+    public List<Tag> getTopUsed(int n) {
+        if (n <= 0) {
+            return Collections.emptyList();
+        }
+        int count = size;
+        Entry[] entries = byId;
+        // Se toma una sola lectura de cada contador para ordenar de forma consistente
+        long[] usage = new long[count];
+        PriorityQueue<Integer> heap = new PriorityQueue<>(n + 1,
+                (a, b) -> usage[a] != usage[b] ? Long.compare(usage[a], usage[b]) : Integer.compare(b, a));
+        for (int i = 0; i < count; i++) {
+            usage[i] = entries[i].usage();
+            if (usage[i] <= 0) {
+                continue;
+            }
+            heap.offer(i);
+            if (heap.size() > n) {
+                heap.poll();
+            }
+        }
+        Tag[] top = new Tag[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = entries[heap.poll()].canonical;
+        }
+        return Arrays.asList(top);
+    }
+
+    // Obtiene todas las etiquetas registradas en orden de id.
+    public List<Tag> getAll() {
+        int count = size;
+        Entry[] entries = byId;
+        List<Tag> all = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            all.add(entries[i].canonical);
+        }
+        return all;
+    }
+
+    // Cantidad de etiquetas registradas.
+    public int size() {
+        return size;
+    }
+
+    // Obtiene (o crea) la entrada del registro para un nombre.
+    Entry entryFor(String name) {
+        String normalized = normalize(name);
+        Entry entry = byName.get(normalized);
+        if (entry != null) {
+            return entry;
+        }
+        synchronized (this) {
+            entry = byName.get(normalized);
+            if (entry == null) {
+                entry = new Entry(size, normalized);
+                Entry[] entries = byId;
+                if (size == entries.length) {
+                    entries = Arrays.copyOf(entries, entries.length * 2);
+                }
+                entries[size] = entry;
+                byId = entries;
+                size = size + 1;
+                entry.canonical = new Tag(entry);
+                sortedByName.put(normalized, entry);
+                byName.put(normalized, entry);
+            }
+            return entry;
+        }
+    }
+
+    // Datos compartidos de una etiqueta interna.
+    static final class Entry {
+        final int id;
+        final String tagId;
+        final String name;
+        final LongAdder usage;
+        Tag canonical;
+
+        Entry(int id, String name) {
+            this.id = id;
+            this.tagId = IdGenerators.nextId();
+            this.name = name;
+            this.usage = new LongAdder();
+        }
+
+        // Lectura del contador. Los decrementos van en par con un incremento anterior, pero sum()
+        // no es una foto atómica y durante cambios concurrentes puede ver uno sin el otro: el cero
+        // acota ese valor pasajero
+        long usage() {
+            return Math.max(0L, usage.sum());
+        }
+    }
+}
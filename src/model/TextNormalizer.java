@@ -0,0 +1,81 @@
+package model;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Normalización de textos en español para búsqueda y ordenamiento.
+// - fold: minúsculas, sin tildes ni diéresis (á -> a, ü -> u, ñ -> n) y con espacios simples,
+//   para que "Fisica" encuentre "Física".
+// - collationKey: clave de ordenamiento del Collator "es" que ignora mayúsculas y ordena
+//   "Árbol" junto a "arbol"; comparar claves es una comparación de bytes.
+// Content calcula ambas al crearse y al cambiar título o autor, no en cada consulta.
+public final class TextNormalizer {
+    private static final Locale SPANISH = Locale.forLanguageTag("es");
+    private static final int SHARED_KEYS_LIMIT = 4096;
+
+    // El Collator no es seguro entre hilos: cada hilo usa su propia copia
+    private static final ThreadLocal<Collator> COLLATOR = ThreadLocal.withInitial(() -> {
+        Collator collator = Collator.getInstance(SPANISH);
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+    });
+
+    // Claves de textos que se repiten mucho (autores); las CollationKey son inmutables
+    private static final ConcurrentHashMap<String, CollationKey> SHARED_KEYS = new ConcurrentHashMap<>();
+
+    private TextNormalizer() {
+    }
+
+    // Devuelve la forma de búsqueda de un texto (null se trata como vacío).
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String source = isAscii(text) ? text : Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(source.length());
+        boolean space = false;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+            } else if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                if (space) {
+                    sb.append(' ');
+                    space = false;
+                }
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // Clave de ordenamiento en español para un texto.
+    public static CollationKey collationKey(String text) {
+        return COLLATOR.get().getCollationKey(text != null ? text : "");
+    }
+
+    // Igual que collationKey, pero reutiliza la clave de textos repetidos (calcular una cuesta ~10 µs).
+    public static CollationKey sharedCollationKey(String text) {
+        String source = text != null ? text : "";
+        CollationKey key = SHARED_KEYS.get(source);
+        if (key == null) {
+            key = collationKey(source);
+            if (SHARED_KEYS.size() < SHARED_KEYS_LIMIT) {
+                SHARED_KEYS.putIfAbsent(source, key);
+            }
+        }
+        return key;
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,79 @@
+package model;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Generador de ids monotónicos ordenados por tiempo (estilo ULID/Snowflake).
+// Cada id tiene 128 bits: 48 bits de milisegundos, 16 bits de secuencia y 64 bits de nodo
+// aleatorio, codificados en 26 caracteres Base32 de Crockford. Como el orden de los
+// caracteres coincide con el orden numérico, los ids se ordenan por fecha de creación.
+public class TimeOrderedIdGenerator implements IdGenerator {
+    public static final int LENGTH = 26;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int SEQUENCE_BITS = 16;
+
+    // Marca de tiempo y secuencia del último id emitido
+    private final AtomicLong lastTimeAndSequence;
+    private final long node;
+
+    // Constructor con un nodo aleatorio para evitar colisiones entre procesos
+    public TimeOrderedIdGenerator() {
+        this(new SecureRandom().nextLong());
+    }
+
+    // Constructor con un nodo fijo
+    public TimeOrderedIdGenerator(long node) {
+        this.lastTimeAndSequence = new AtomicLong();
+        this.node = node;
+    }
+
+    @Override
+    public String nextId() {
+        return encode(nextTimeAndSequence(), node);
+    }
+
+    // Obtiene el siguiente valor de tiempo+secuencia sin bloqueos.
+    // Si se agotan las secuencias de un milisegundo, se avanza al siguiente.
+    long nextTimeAndSequence() {
+        long candidate = System.currentTimeMillis() << SEQUENCE_BITS;
+        while (true) {
+            long last = lastTimeAndSequence.get();
+            long next = candidate > last ? candidate : last + 1;
+            if (lastTimeAndSequence.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    // Obtiene los milisegundos de creación de un id generado por esta clase
+    public static long getTimestamp(String id) {
+        long high = 0;
+        for (int i = 0; i < 13; i++) {
+            high = (high << 5) | decode(id.charAt(i));
+        }
+        // Los 13 primeros caracteres contienen 65 bits: 2 de relleno y 63 de la parte alta
+        high = (high << 1) | (decode(id.charAt(13)) >>> 4);
+        return high >>> SEQUENCE_BITS;
+    }
+
+    // Codifica 128 bits en 26 caracteres
+    private static String encode(long high, long low) {
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (low & 31)];
+            low = (low >>> 5) | (high << 59);
+            high >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    private static int decode(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Carácter inválido en el id: " + c);
+    }
+}
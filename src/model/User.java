@@ -2,7 +2,6 @@ package model;
 
 import java.util.Date;
 import java.util.List;
-import java.util.UUID;
 
 // Clase abstracta que representa a un usuario del sistema.
 public abstract class User {
@@ -11,15 +10,17 @@ public abstract class User {
     protected String password;
     protected String email;
     protected String role;
+    protected Role roleDefinition;
     protected Date registrationDate;
     
     // Constructor de User.
     public User(String username, String password, String email, String role) {
-        this.userId = UUID.randomUUID().toString();
+        this.userId = IdGenerators.nextId();
         this.username = username;
         this.password = password;
         this.email = email;
         this.role = role;
+        this.roleDefinition = Role.forName(role);
         this.registrationDate = new Date();
     }
     
@@ -28,8 +29,20 @@ public abstract class User {
         return this.password.equals(password);
     }
     
-    // Método abstracto para obtener los permisos del usuario.
-    public abstract List<String> getPermissions();
+    // Obtiene los permisos del usuario según su rol (lista inmutable precalculada).
+    public List<String> getPermissions() {
+        return roleDefinition.getPermissionNames();
+    }
+    
+    // Verifica si el usuario tiene un permiso específico.
+    public final boolean hasPermission(Permission permission) {
+        return permission != null && roleDefinition.hasPermission(permission);
+    }
+    
+    // Verifica si el usuario tiene un permiso dado por nombre.
+    public boolean hasPermission(String permission) {
+        return hasPermission(Permission.fromName(permission));
+    }
     
     // Método para actualizar el perfil del usuario.
     public void updateProfile(String email) {
@@ -70,6 +83,10 @@ public abstract class User {
         return role;
     }
     
+    public Role getRoleDefinition() {
+        return roleDefinition;
+    }
+    
     public Date getRegistrationDate() {
         return registrationDate;
     }
@@ -8,13 +8,16 @@ public class Video extends Content {
     private String url;
     private int duration; // segundos
     private String resolution;
+    // Valores derivados que se calculan al asignar url y duración
+    private String formattedDuration;
+    private String thumbnail;
 
     // Constructor con atributos de video
     public Video(String title, String author, Category category, String url, int duration, String resolution) {
         super(title, author, category);
-        this.url = url;
-        this.duration = duration;
         this.resolution = resolution;
+        applyUrl(url);
+        applyDuration(duration);
     }
 
     // Publica si tiene URL y duración válida
@@ -33,7 +36,7 @@ public class Video extends Content {
         sb.append("=== VIDEO ===\n");
         sb.append("Título: ").append(title).append("\n");
         sb.append("Autor: ").append(author).append("\n");
-        sb.append("Duración: ").append(formatDuration()).append("\n");
+        sb.append("Duración: ").append(formattedDuration).append("\n");
         sb.append("Resolución: ").append(resolution).append("\n");
         sb.append("Categoría: ").append(category.getName()).append("\n");
         sb.append("URL: ").append(url);
@@ -41,7 +44,7 @@ public class Video extends Content {
     }
 
     // Formatea duración en HH:MM:SS
-    private String formatDuration() {
+    private static String formatDuration(int duration) {
         int hours = duration / 3600;
         int minutes = (duration % 3600) / 60;
         int seconds = duration % 60;
@@ -49,16 +52,36 @@ public class Video extends Content {
         return String.format("%d:%02d", minutes, seconds);
     }
 
+    // Asigna la URL y deriva la de la miniatura
+    private void applyUrl(String url) {
+        this.url = url;
+        this.thumbnail = url != null ? url.replace(".mp4", "_thumbnail.jpg") : null;
+    }
+
+    // Valida y asigna la duración (no puede ser negativa)
+    private void applyDuration(int duration) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("La duración no puede ser negativa: " + duration);
+        }
+        this.duration = duration;
+        this.formattedDuration = formatDuration(duration);
+    }
+
     // Obtiene URL de miniatura
     public String getThumbnail() {
-        return url.replace(".mp4", "_thumbnail.jpg");
+        return thumbnail;
+    }
+
+    // Obtiene la duración en formato legible
+    public String getFormattedDuration() {
+        return formattedDuration;
     }
 
     // Getters y Setters
     public String getUrl() { return url; }
-    public void setUrl(String url) { this.url = url; this.lastModified = new Date(); }
+    public void setUrl(String url) { applyUrl(url); this.lastModified = new Date(); }
     public int getDuration() { return duration; }
-    public void setDuration(int duration) { this.duration = duration; this.lastModified = new Date(); }
+    public void setDuration(int duration) { applyDuration(duration); this.lastModified = new Date(); }
     public String getResolution() { return resolution; }
     public void setResolution(String resolution) { this.resolution = resolution; this.lastModified = new Date(); }
 }
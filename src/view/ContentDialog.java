@@ -2,9 +2,14 @@ package view;
 
 import model.*;
 import model.Image;
+import media.MediaInfo;
+import media.MediaProbe;
+import media.ThumbnailService;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -204,6 +209,12 @@ public class ContentDialog extends JDialog {
         gbc.gridx = 1;
         panel.add(txtVideoUrl, gbc);
 
+        JButton btnProbeVideo = new JButton("Detectar");
+        btnProbeVideo.setToolTipText("Leer duración y resolución del archivo local");
+        btnProbeVideo.addActionListener(e -> probeMedia(txtVideoUrl.getText()));
+        gbc.gridx = 2;
+        panel.add(btnProbeVideo, gbc);
+
         // Duración
         gbc.gridx = 0; gbc.gridy = 1;
         panel.add(new JLabel("Duración (segundos):"), gbc);
@@ -242,6 +253,12 @@ public class ContentDialog extends JDialog {
         gbc.gridx = 1;
         panel.add(txtImageUrl, gbc);
 
+        JButton btnProbeImage = new JButton("Detectar");
+        btnProbeImage.setToolTipText("Leer dimensiones y formato del archivo local");
+        btnProbeImage.addActionListener(e -> probeMedia(txtImageUrl.getText()));
+        gbc.gridx = 2;
+        panel.add(btnProbeImage, gbc);
+
         // Dimensiones
         gbc.gridx = 0; gbc.gridy = 1;
         panel.add(new JLabel("Dimensiones (WxH):"), gbc);
@@ -285,6 +302,45 @@ public class ContentDialog extends JDialog {
         return panel;
     }
 
+    /**
+     * Lee la cabecera del archivo local indicado y completa los campos del medio.
+     */
+    private void probeMedia(String url) {
+        Path path = ThumbnailService.toLocalPath(url);
+        if (path == null) {
+            JOptionPane.showMessageDialog(this,
+                "La URL no corresponde a un archivo local existente",
+                "Detectar", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        MediaInfo info;
+        try {
+            info = MediaProbe.probe(path);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this,
+                "No se pudo leer el archivo: " + e.getMessage(),
+                "Detectar", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        if (info == null) {
+            JOptionPane.showMessageDialog(this,
+                "Formato no reconocido (se admiten PNG, JPEG, GIF y MP4)",
+                "Detectar", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        if (info.getKind() == MediaInfo.Kind.IMAGE) {
+            txtDimensions.setText(info.getDimensions());
+            txtFormat.setText(info.getFormat());
+        } else {
+            txtDuration.setText(String.valueOf(info.getDurationSeconds()));
+            if (info.getResolution() != null) {
+                txtResolution.setText(info.getResolution());
+            }
+        }
+    }
+
     /**
      * Actualiza el panel dinámico según el tipo seleccionado.
      */
@@ -367,6 +423,18 @@ public class ContentDialog extends JDialog {
                         "Error", JOptionPane.ERROR_MESSAGE);
                 return false;
             }
+            try {
+                Image.parseDimensions(txtDimensions.getText());
+            } catch (IllegalArgumentException e) {
+                JOptionPane.showMessageDialog(this, e.getMessage(),
+                        "Error", JOptionPane.ERROR_MESSAGE);
+                return false;
+            }
+            if (txtFormat.getText().trim().isEmpty()) {
+                JOptionPane.showMessageDialog(this, "El formato de la imagen es requerido",
+                        "Error", JOptionPane.ERROR_MESSAGE);
+                return false;
+            }
         }
 
         return true;
@@ -385,10 +453,12 @@ public class ContentDialog extends JDialog {
         Category category = (Category) cmbCategory.getSelectedItem();
         String type = (String) cmbContentType.getSelectedItem();
 
+        // Al editar se modifica una copia: el original sigue intacto para los demás lectores
+        // hasta que ContentController.edit la confirma, y cancelar no deja cambios a medias
         if ("Article".equals(type)) {
             String content = txtArticleContent.getText().trim();
             if (isEditMode && editingContent instanceof Article) {
-                Article article = (Article) editingContent;
+                Article article = (Article) editingContent.copy();
                 article.setTitle(title);
                 article.setAuthor(author);
                 article.setCategory(category);
@@ -403,7 +473,7 @@ public class ContentDialog extends JDialog {
             String resolution = txtResolution.getText().trim();
 
             if (isEditMode && editingContent instanceof Video) {
-                Video video = (Video) editingContent;
+                Video video = (Video) editingContent.copy();
                 video.setTitle(title);
                 video.setAuthor(author);
                 video.setCategory(category);
@@ -420,7 +490,7 @@ public class ContentDialog extends JDialog {
             String format = txtFormat.getText().trim();
 
             if (isEditMode && editingContent instanceof Image) {
-                Image image = (Image) editingContent;
+                Image image = (Image) editingContent.copy();
                 image.setTitle(title);
                 image.setAuthor(author);
                 image.setCategory(category);
@@ -1,12 +1,35 @@
 package view;
 
+import controller.AutocompleteIndex;
 import controller.ContentController;
+import controller.ContentEvent;
+import controller.ContentListener;
+import controller.SortField;
+import media.ThumbnailService;
 import model.*;
+import model.Image;
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.table.TableColumn;
+import javax.swing.table.TableColumnModel;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Panel principal para gestión de contenidos.
@@ -15,21 +38,41 @@ import java.util.List;
  * @author Ceferino, Paiz, Junior
  * @version 1.0
  */
-public class ContentPanel extends BasePanel {
+public class ContentPanel extends BasePanel implements ContentListener {
+    // A partir de este tamaño de lote conviene recargar la tabla completa
+    private static final int RELOAD_THRESHOLD = 1000;
+    // Cantidad máxima de sugerencias en la lista desplegable de búsqueda
+    private static final int SUGGESTION_LIMIT = 8;
+    // Errores de escritura tolerados por palabra en la búsqueda aproximada
+    private static final int FUZZY_MAX_EDITS = 2;
+    // Desde este tamaño los resultados se ordenan con el índice del controlador
+    private static final int INDEX_ORDER_THRESHOLD = 50000;
+
     private ContentController contentController;
     private User currentUser;
     private List<Category> categories;
 
     private JTable contentTable;
-    private DefaultTableModel tableModel;
+    private ContentTableModel tableModel;
     private JTextField txtSearch;
+    private JCheckBox chkFuzzy;
+    private JPopupMenu suggestionPopup;
+    private JList<AutocompleteIndex.Completion> suggestionList;
+    private boolean updatingSearch;
     private JComboBox<Category> cmbCategory;
     private JComboBox<String> cmbType;
     private JButton btnCreate;
     private JButton btnEdit;
     private JButton btnDelete;
     private JButton btnPublish;
+    private JButton btnSchedule;
     private JButton btnView;
+    private JLabel lblPreview;
+    private boolean showingAll;
+    /** Búsqueda o filtro que se muestra cuando showingAll es false, para repetirlo al recargar. */
+    private Supplier<List<Content>> activeQuery;
+    private int sortColumn = -1;
+    private boolean sortAscending = true;
 
     /**
      * Constructor del panel
@@ -45,6 +88,7 @@ public class ContentPanel extends BasePanel {
         this.categories = categories;
         initComponents();
         loadContentTable();
+        contentController.addContentListener(this);
     }
 
     /**
@@ -73,11 +117,17 @@ public class ContentPanel extends BasePanel {
         panel.add(new JLabel("Buscar:"));
         txtSearch = new JTextField(20);
         panel.add(txtSearch);
+        installSuggestions();
 
         JButton btnSearch = createStyledButton("Buscar");
         btnSearch.addActionListener(e -> handleSearch());
         panel.add(btnSearch);
 
+        chkFuzzy = new JCheckBox("Tolerar errores");
+        chkFuzzy.setFont(defaultFont);
+        chkFuzzy.setToolTipText("Encuentra palabras con hasta 2 letras de diferencia");
+        panel.add(chkFuzzy);
+
         panel.add(new JSeparator(SwingConstants.VERTICAL));
 
 
@@ -102,6 +152,151 @@ public class ContentPanel extends BasePanel {
         return panel;
     }
 
+    /**
+     * Agrega al campo de búsqueda una lista desplegable de sugerencias.
+     * Las sugerencias salen del índice de autocompletado del controlador, que responde
+     * en microsegundos, por lo que se consultan en cada tecla sin bloquear el EDT.
+     */
+    private void installSuggestions() {
+        suggestionList = new JList<>(new DefaultListModel<>());
+        suggestionList.setFont(defaultFont);
+        suggestionList.setFocusable(false);
+        suggestionList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        suggestionList.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+                AutocompleteIndex.Completion completion = (AutocompleteIndex.Completion) value;
+                setText(completion.getText() + "  (" + kindLabel(completion.getKind()) + ", "
+                        + completion.getCount() + ")");
+                return this;
+            }
+        });
+        suggestionList.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                acceptSuggestion();
+            }
+        });
+
+        suggestionPopup = new JPopupMenu();
+        suggestionPopup.setFocusable(false);
+        suggestionPopup.add(new JScrollPane(suggestionList));
+
+        txtSearch.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) { updateSuggestions(); }
+            @Override
+            public void removeUpdate(DocumentEvent e) { updateSuggestions(); }
+            @Override
+            public void changedUpdate(DocumentEvent e) { updateSuggestions(); }
+        });
+        txtSearch.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                suggestionPopup.setVisible(false);
+            }
+        });
+
+        InputMap inputMap = txtSearch.getInputMap(JComponent.WHEN_FOCUSED);
+        ActionMap actionMap = txtSearch.getActionMap();
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_DOWN, 0), "suggestionDown");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_UP, 0), "suggestionUp");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_ENTER, 0), "suggestionAccept");
+        inputMap.put(KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0), "suggestionHide");
+        actionMap.put("suggestionDown", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) { moveSuggestion(1); }
+        });
+        actionMap.put("suggestionUp", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) { moveSuggestion(-1); }
+        });
+        actionMap.put("suggestionAccept", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (suggestionPopup.isVisible() && suggestionList.getSelectedIndex() >= 0) {
+                    acceptSuggestion();
+                } else {
+                    suggestionPopup.setVisible(false);
+                    handleSearch();
+                }
+            }
+        });
+        actionMap.put("suggestionHide", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) { suggestionPopup.setVisible(false); }
+        });
+    }
+
+    /**
+     * Consulta las sugerencias del texto actual y muestra u oculta la lista.
+     */
+    private void updateSuggestions() {
+        if (updatingSearch) {
+            return;
+        }
+        List<AutocompleteIndex.Completion> completions =
+                contentController.suggest(txtSearch.getText(), SUGGESTION_LIMIT);
+        DefaultListModel<AutocompleteIndex.Completion> model =
+                (DefaultListModel<AutocompleteIndex.Completion>) suggestionList.getModel();
+        model.clear();
+        for (AutocompleteIndex.Completion completion : completions) {
+            model.addElement(completion);
+        }
+        if (completions.isEmpty() || !txtSearch.isShowing()) {
+            suggestionPopup.setVisible(false);
+            return;
+        }
+        suggestionList.setVisibleRowCount(completions.size());
+        suggestionPopup.setPopupSize(Math.max(txtSearch.getWidth(), 320),
+                suggestionList.getPreferredScrollableViewportSize().height + 6);
+        if (!suggestionPopup.isVisible()) {
+            suggestionPopup.show(txtSearch, 0, txtSearch.getHeight());
+        } else {
+            suggestionPopup.pack();
+        }
+        // El menú emergente no debe quitarle el foco al campo de búsqueda
+        txtSearch.requestFocusInWindow();
+    }
+
+    private void moveSuggestion(int delta) {
+        int size = suggestionList.getModel().getSize();
+        if (!suggestionPopup.isVisible() || size == 0) {
+            return;
+        }
+        int index = Math.max(0, Math.min(size - 1, suggestionList.getSelectedIndex() + delta));
+        suggestionList.setSelectedIndex(index);
+        suggestionList.ensureIndexIsVisible(index);
+    }
+
+    /**
+     * Copia la sugerencia seleccionada al campo de búsqueda y busca.
+     */
+    private void acceptSuggestion() {
+        AutocompleteIndex.Completion completion = suggestionList.getSelectedValue();
+        suggestionPopup.setVisible(false);
+        if (completion == null) {
+            return;
+        }
+        updatingSearch = true;
+        try {
+            txtSearch.setText(completion.getText());
+        } finally {
+            updatingSearch = false;
+        }
+        handleSearch();
+    }
+
+    private static String kindLabel(AutocompleteIndex.Kind kind) {
+        switch (kind) {
+            case AUTHOR: return "autor";
+            case TAG: return "etiqueta";
+            default: return "título";
+        }
+    }
+
     /**
      * Crea el panel central con la tabla de contenidos.
      */
@@ -110,13 +305,7 @@ public class ContentPanel extends BasePanel {
         panel.setBorder(createTitledBorder("Contenidos"));
 
         // Modelo de tabla
-        String[] columns = {"ID", "Título", "Autor", "Tipo", "Categoría", "Estado", "Fecha"};
-        tableModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        tableModel = new ContentTableModel();
 
         contentTable = new JTable(tableModel);
         contentTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -132,12 +321,74 @@ public class ContentPanel extends BasePanel {
         contentTable.getColumnModel().getColumn(5).setPreferredWidth(100);
         contentTable.getColumnModel().getColumn(6).setPreferredWidth(100);
 
+        // Ordenar al hacer clic en un encabezado; un segundo clic invierte el orden
+        contentTable.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int viewColumn = contentTable.columnAtPoint(e.getPoint());
+                if (viewColumn < 0) {
+                    return;
+                }
+                int column = contentTable.convertColumnIndexToModel(viewColumn);
+                sortAscending = column != sortColumn || !sortAscending;
+                sortColumn = column;
+                List<Content> current = showingAll ? null : tableModel.getContents();
+                showContents(current);
+            }
+        });
+
         JScrollPane scrollPane = new JScrollPane(contentTable);
         panel.add(scrollPane, BorderLayout.CENTER);
 
+        // Vista previa de imágenes locales
+        lblPreview = new JLabel("Sin vista previa", SwingConstants.CENTER);
+        lblPreview.setFont(defaultFont);
+        lblPreview.setPreferredSize(new Dimension(180, 180));
+        lblPreview.setBorder(createTitledBorder("Vista previa"));
+        panel.add(lblPreview, BorderLayout.EAST);
+        contentTable.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                updatePreview();
+            }
+        });
+
         return panel;
     }
 
+    /**
+     * Muestra la miniatura del contenido seleccionado si es una imagen local.
+     * La miniatura se genera en segundo plano; el EDT nunca espera la decodificación.
+     */
+    private void updatePreview() {
+        Content content = tableModel.getContentAt(contentTable.getSelectedRow());
+        Path source = content instanceof Image ? ThumbnailService.toLocalPath(((Image) content).getUrl()) : null;
+        if (source == null) {
+            showPreview(null, "Sin vista previa");
+            return;
+        }
+
+        ThumbnailService thumbnails = ThumbnailService.getDefault();
+        BufferedImage ready = thumbnails.getIfReady(source);
+        if (ready != null) {
+            showPreview(ready, null);
+            return;
+        }
+        showPreview(null, "Cargando...");
+        String id = content.getId();
+        thumbnails.request(source).whenComplete((thumbnail, error) -> SwingUtilities.invokeLater(() -> {
+            // Se descarta si la selección cambió mientras se generaba
+            Content selected = tableModel.getContentAt(contentTable.getSelectedRow());
+            if (selected != null && selected.getId().equals(id)) {
+                showPreview(thumbnail, error != null ? "No disponible" : null);
+            }
+        }));
+    }
+
+    private void showPreview(BufferedImage image, String text) {
+        lblPreview.setIcon(image != null ? new ImageIcon(image) : null);
+        lblPreview.setText(image != null ? null : text);
+    }
+
     /**
      * Crea el panel inferior con botones de acciones.
      */
@@ -147,27 +398,33 @@ public class ContentPanel extends BasePanel {
         // Botón Crear
         btnCreate = createStyledButton("Crear");
         btnCreate.addActionListener(e -> showCreateDialog());
-        btnCreate.setEnabled(currentUser.getPermissions().contains("CREATE"));
+        btnCreate.setEnabled(currentUser.hasPermission(Permission.CREATE));
         panel.add(btnCreate);
 
         // Botón Editar
         btnEdit = createStyledButton("Editar");
         btnEdit.addActionListener(e -> showEditDialog());
-        btnEdit.setEnabled(currentUser.getPermissions().contains("EDIT"));
+        btnEdit.setEnabled(currentUser.hasPermission(Permission.EDIT));
         panel.add(btnEdit);
 
         // Botón Eliminar
         btnDelete = createStyledButton("Eliminar");
         btnDelete.addActionListener(e -> handleDelete());
-        btnDelete.setEnabled(currentUser.getPermissions().contains("DELETE"));
+        btnDelete.setEnabled(currentUser.hasPermission(Permission.DELETE));
         panel.add(btnDelete);
 
         // Botón Publicar/Despublicar
         btnPublish = createStyledButton("Publicar");
         btnPublish.addActionListener(e -> handlePublish());
-        btnPublish.setEnabled(currentUser.getPermissions().contains("PUBLISH"));
+        btnPublish.setEnabled(currentUser.hasPermission(Permission.PUBLISH));
         panel.add(btnPublish);
 
+        // Botón Programar publicación/despublicación
+        btnSchedule = createStyledButton("Programar");
+        btnSchedule.addActionListener(e -> handleSchedule());
+        btnSchedule.setEnabled(currentUser.hasPermission(Permission.PUBLISH));
+        panel.add(btnSchedule);
+
         btnView = createStyledButton("Ver Detalles");
         btnView.addActionListener(e -> handleView());
         panel.add(btnView);
@@ -179,22 +436,58 @@ public class ContentPanel extends BasePanel {
      * Carga los contenidos en la tabla.
      */
     public void loadContentTable() {
-        tableModel.setRowCount(0);
-        List<Content> contents = contentController.getAllContent();
-        SimpleDateFormat sdf = new SimpleDateFormat("dd/MM/yyyy");
-
-        for (Content content : contents) {
-            Object[] row = {
-                    content.getId().substring(0, 8) + "...",
-                    content.getTitle(),
-                    content.getAuthor(),
-                    content.getContentType(),
-                    content.getCategory().getName(),
-                    content.getStatus(),
-                    sdf.format(content.getCreationDate())
-            };
-            tableModel.addRow(row);
+        showingAll = true;
+        activeQuery = null;
+        showContents(null);
+    }
+
+    /**
+     * Muestra contenidos en el orden de la columna seleccionada.
+     * Con el catálogo completo el orden sale de los índices ordenados del controlador;
+     * con resultados de búsqueda o filtros se ordenan por las claves precalculadas, o se
+     * filtra el índice cuando son muchos.
+     * Nunca se compara el texto formateado de las celdas.
+     *
+     * @param contents contenidos a mostrar, o null para el catálogo completo
+     */
+    private void showContents(List<Content> contents) {
+        SortField field = sortColumn >= 0 ? ContentTableModel.sortFieldFor(sortColumn) : null;
+        List<Content> rows;
+        if (contents == null && field != null) {
+            rows = contentController.getAllContentSorted(field, sortAscending);
+        } else if (field != null && contents.size() > INDEX_ORDER_THRESHOLD) {
+            // Resultados grandes: recorrer el índice y quedarse con los resultados es O(n);
+            // comparar claves de colación de un millón de filas lleva segundos
+            // (el controlador devuelve sus propias instancias, así que basta comparar por identidad)
+            Set<Content> selected = Collections.newSetFromMap(new IdentityHashMap<>(contents.size() * 2));
+            selected.addAll(contents);
+            rows = contentController.getAllContentSorted(field, sortAscending, selected::contains);
+        } else {
+            rows = contents != null ? contents : contentController.getAllContent();
+            if (sortColumn >= 0) {
+                rows = ContentTableModel.sort(rows, sortColumn, sortAscending);
+            }
+        }
+        tableModel.setOrder(sortColumn >= 0 ? ContentTableModel.comparatorFor(sortColumn, sortAscending) : null);
+        tableModel.setContents(rows);
+        updateSortHeaders();
+    }
+
+    /**
+     * Marca con una flecha la columna por la que se ordena.
+     */
+    private void updateSortHeaders() {
+        TableColumnModel columns = contentTable.getColumnModel();
+        for (int i = 0; i < columns.getColumnCount(); i++) {
+            TableColumn column = columns.getColumn(i);
+            int modelIndex = column.getModelIndex();
+            String name = tableModel.getColumnName(modelIndex);
+            if (modelIndex == sortColumn) {
+                name += sortAscending ? " \u25B2" : " \u25BC";
+            }
+            column.setHeaderValue(name);
         }
+        contentTable.getTableHeader().repaint();
     }
 
     /**
@@ -208,7 +501,6 @@ public class ContentPanel extends BasePanel {
         Content newContent = dialog.getContent();
         if (newContent != null) {
             contentController.create(newContent);
-            loadContentTable();
             showMessage("Contenido creado exitosamente");
         }
     }
@@ -235,7 +527,6 @@ public class ContentPanel extends BasePanel {
             Content editedContent = dialog.getContent();
             if (editedContent != null) {
                 contentController.edit(editedContent);
-                loadContentTable();
                 showMessage("Contenido actualizado exitosamente");
             }
         }
@@ -254,7 +545,6 @@ public class ContentPanel extends BasePanel {
         if (showConfirmation("¿Está seguro de eliminar este contenido?")) {
             String id = getFullId(selectedRow);
             if (contentController.delete(id)) {
-                loadContentTable();
                 showMessage("Contenido eliminado exitosamente");
             } else {
                 showError("No se pudo eliminar el contenido");
@@ -278,12 +568,10 @@ public class ContentPanel extends BasePanel {
         if (content != null) {
             if (content.isPublished()) {
                 if (contentController.unpublishContent(id)) {
-                    loadContentTable();
                     showMessage("Contenido despublicado");
                 }
             } else {
                 if (contentController.publishContent(id)) {
-                    loadContentTable();
                     showMessage("Contenido publicado exitosamente");
                 } else {
                     showError("No se pudo publicar. Verifique que cumpla los requisitos.");
@@ -292,6 +580,64 @@ public class ContentPanel extends BasePanel {
         }
     }
 
+    /**
+     * Programa la publicación (o despublicación, si ya está publicado) del contenido
+     * seleccionado para una fecha futura, o cancela lo programado.
+     */
+    private void handleSchedule() {
+        int selectedRow = contentTable.getSelectedRow();
+        if (selectedRow == -1) {
+            showError("Seleccione un contenido");
+            return;
+        }
+
+        String id = getFullId(selectedRow);
+        Content content = contentController.getById(id);
+        if (content == null) {
+            return;
+        }
+
+        SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy HH:mm");
+        format.setLenient(false);
+        boolean publish = !content.isPublished();
+        Date current = publish ? contentController.getScheduledPublish(id)
+                : contentController.getScheduledUnpublish(id);
+        Date suggested = current != null ? current : new Date(System.currentTimeMillis() + 3_600_000L);
+
+        String action = publish ? "publicación" : "despublicación";
+        String input = (String) JOptionPane.showInputDialog(this,
+                "Fecha de " + action + " (dd/MM/yyyy HH:mm).\nDeje vacío para cancelar lo programado.",
+                "Programar " + action, JOptionPane.PLAIN_MESSAGE, null, null, format.format(suggested));
+        if (input == null) {
+            return;
+        }
+
+        try {
+            if (input.trim().isEmpty()) {
+                if (contentController.cancelScheduled(id)) {
+                    showMessage("Programación cancelada");
+                }
+                return;
+            }
+            Date when = format.parse(input.trim());
+            if (!when.after(new Date())) {
+                showError("La fecha debe ser futura");
+                return;
+            }
+            boolean scheduled = publish ? contentController.schedulePublish(id, when)
+                    : contentController.scheduleUnpublish(id, when);
+            if (scheduled) {
+                showMessage("Se programó la " + action + " para el " + format.format(when));
+            } else {
+                showError("No se pudo programar la " + action);
+            }
+        } catch (ParseException e) {
+            showError("Fecha inválida: use el formato dd/MM/yyyy HH:mm");
+        } catch (IllegalStateException e) {
+            showError(e.getMessage());
+        }
+    }
+
     /**
      * Muestra los detalles del contenido seleccionado.
      */
@@ -308,6 +654,15 @@ public class ContentPanel extends BasePanel {
         if (content != null) {
             // Demuestra polimorfismo: display() se ejecuta según el tipo real
             String details = content.display();
+            SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy HH:mm");
+            Date publishAt = contentController.getScheduledPublish(id);
+            Date unpublishAt = contentController.getScheduledUnpublish(id);
+            if (publishAt != null) {
+                details += "\n\nPublicación programada: " + format.format(publishAt);
+            }
+            if (unpublishAt != null) {
+                details += "\n\nDespublicación programada: " + format.format(unpublishAt);
+            }
 
             JTextArea textArea = new JTextArea(details);
             textArea.setEditable(false);
@@ -328,8 +683,10 @@ public class ContentPanel extends BasePanel {
      */
     private void handleSearch() {
         String keyword = txtSearch.getText().trim();
-        List<Content> results = contentController.searchByKeyword(keyword);
-        displayResults(results);
+        boolean fuzzy = chkFuzzy.isSelected();
+        displayResults(() -> fuzzy
+                ? contentController.searchFuzzy(keyword, FUZZY_MAX_EDITS)
+                : contentController.searchByKeyword(keyword));
     }
 
     /**
@@ -338,12 +695,22 @@ public class ContentPanel extends BasePanel {
     private void applyFilters() {
         Category selectedCategory = (Category) cmbCategory.getSelectedItem();
         String selectedType = (String) cmbType.getSelectedItem();
+        displayResults(() -> filter(selectedCategory, selectedType));
+    }
 
+    /**
+     * Contenidos de una categoría (con sus subcategorías) y un tipo.
+     *
+     * @param selectedCategory categoría elegida, o "Todas"
+     * @param selectedType tipo elegido, o "Todos"
+     * @return contenidos que cumplen ambos filtros
+     */
+    private List<Content> filter(Category selectedCategory, String selectedType) {
         List<Content> results = contentController.getAllContent();
 
-        // Filtrar por categoría
+        // Filtrar por categoría (incluye subcategorías)
         if (selectedCategory != null && !selectedCategory.getName().equals("Todas")) {
-            results = contentController.filterByCategory(selectedCategory);
+            results = contentController.filterByCategoryTree(selectedCategory);
         }
 
         // Filtrar por tipo
@@ -354,44 +721,69 @@ public class ContentPanel extends BasePanel {
         // Si ambos filtros están activos, combinar
         if (selectedCategory != null && !selectedCategory.getName().equals("Todas")
                 && !"Todos".equals(selectedType)) {
-            List<Content> categoryFiltered = contentController.filterByCategory(selectedCategory);
+            List<Content> categoryFiltered = contentController.filterByCategoryTree(selectedCategory);
             List<Content> typeFiltered = contentController.filterByType(selectedType);
-            results.retainAll(typeFiltered);
+            categoryFiltered.retainAll(typeFiltered);
+            results = categoryFiltered;
         }
-
-        displayResults(results);
+        return results;
     }
 
     /**
-     * Muestra los resultados en la tabla.
+     * Muestra en la tabla los resultados de una búsqueda o filtro y la recuerda como activa.
+     *
+     * @param query consulta al controlador
      */
-    private void displayResults(List<Content> contents) {
-        tableModel.setRowCount(0);
-        SimpleDateFormat sdf = new SimpleDateFormat("dd/MM/yyyy");
-
-        for (Content content : contents) {
-            Object[] row = {
-                    content.getId().substring(0, 8) + "...",
-                    content.getTitle(),
-                    content.getAuthor(),
-                    content.getContentType(),
-                    content.getCategory().getName(),
-                    content.getStatus(),
-                    sdf.format(content.getCreationDate())
-            };
-            tableModel.addRow(row);
-        }
+    private void displayResults(Supplier<List<Content>> query) {
+        showingAll = false;
+        activeQuery = query;
+        showContents(query.get());
     }
 
     /**
      * Obtiene el ID completo del contenido en la fila seleccionada.
      */
     private String getFullId(int row) {
-        List<Content> contents = contentController.getAllContent();
-        if (row >= 0 && row < contents.size()) {
-            return contents.get(row).getId();
+        Content content = tableModel.getContentAt(row);
+        return content != null ? content.getId() : null;
+    }
+
+    /**
+     * Aplica los cambios de contenidos fila por fila. Con una búsqueda o filtro activo los
+     * contenidos nuevos no se agregan (pueden no cumplirlo); los lotes grandes vuelven a
+     * ejecutar la consulta activa en lugar de mostrar todo.
+     *
+     * @param events eventos combinados del controlador
+     */
+    @Override
+    public void onContentChanged(List<ContentEvent> events) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> onContentChanged(events));
+            return;
+        }
+        if (events.size() > RELOAD_THRESHOLD) {
+            if (showingAll || activeQuery == null) {
+                loadContentTable();
+            } else {
+                showContents(activeQuery.get());
+            }
+            return;
+        }
+        for (ContentEvent event : events) {
+            switch (event.getType()) {
+                case CREATED:
+                    if (showingAll) {
+                        tableModel.addContent(event.getContent());
+                    }
+                    break;
+                case DELETED:
+                    tableModel.removeContent(event.getContentId());
+                    break;
+                default:
+                    tableModel.updateContent(event.getContent());
+                    break;
+            }
         }
-        return null;
     }
 
     /**
@@ -399,9 +791,10 @@ public class ContentPanel extends BasePanel {
      */
     public void updateUser(User user) {
         this.currentUser = user;
-        btnCreate.setEnabled(user.getPermissions().contains("CREATE"));
-        btnEdit.setEnabled(user.getPermissions().contains("EDIT"));
-        btnDelete.setEnabled(user.getPermissions().contains("DELETE"));
-        btnPublish.setEnabled(user.getPermissions().contains("PUBLISH"));
+        btnCreate.setEnabled(user.hasPermission(Permission.CREATE));
+        btnEdit.setEnabled(user.hasPermission(Permission.EDIT));
+        btnDelete.setEnabled(user.hasPermission(Permission.DELETE));
+        btnPublish.setEnabled(user.hasPermission(Permission.PUBLISH));
+        btnSchedule.setEnabled(user.hasPermission(Permission.PUBLISH));
     }
 }
\ No newline at end of file
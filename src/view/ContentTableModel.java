@@ -0,0 +1,290 @@
+package view;
+
+import controller.SortField;
+import model.Category;
+import model.Content;
+import javax.swing.table.AbstractTableModel;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Modelo de tabla respaldado por los objetos Content.
+ * Permite actualizar filas individuales en lugar de reconstruir toda la tabla.
+ *
+ * @author Ceferino, Paiz, Junior
+ * @version 1.0
+ */
+public class ContentTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"ID", "Título", "Autor", "Tipo", "Categoría", "Estado", "Fecha"};
+
+    private final List<Content> rows;
+    private final Map<String, Integer> rowById;
+    private final SimpleDateFormat dateFormat;
+    // Filas iniciales cuya posición en rowById es correcta; el resto se indexa al buscarlo
+    private int indexedRows;
+    private Comparator<Content> order;
+
+    /**
+     * Constructor de un modelo vacío.
+     */
+    public ContentTableModel() {
+        this.rows = new ArrayList<>();
+        this.rowById = new HashMap<>();
+        this.dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+        this.indexedRows = 0;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Content content = rows.get(row);
+        switch (column) {
+            case 0: return content.getShortId() + "...";
+            case 1: return content.getTitle();
+            case 2: return content.getAuthor();
+            case 3: return content.getContentType();
+            case 4: return content.getCategory().getName();
+            case 5: return content.getStatus();
+            case 6: return dateFormat.format(content.getCreationDate());
+            default: return null;
+        }
+    }
+
+    /**
+     * Reemplaza todas las filas.
+     *
+     * @param contents contenidos a mostrar
+     */
+    public void setContents(List<Content> contents) {
+        rows.clear();
+        rows.addAll(contents);
+        rowById.clear();
+        indexedRows = 0;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Define el orden de las filas para ubicar las que se agregan o cambian después.
+     * Las filas de setContents ya deben venir en este orden.
+     *
+     * @param order comparador sobre claves precalculadas, o null si no hay orden
+     */
+    public void setOrder(Comparator<Content> order) {
+        this.order = order;
+    }
+
+    /**
+     * Campo del índice ordenado del controlador que corresponde a una columna.
+     *
+     * @param column índice de la columna
+     * @return campo, o null si la columna no tiene índice (Categoría)
+     */
+    public static SortField sortFieldFor(int column) {
+        switch (column) {
+            case 0: return SortField.ID;
+            case 1: return SortField.TITLE;
+            case 2: return SortField.AUTHOR;
+            case 3: return SortField.TYPE;
+            case 5: return SortField.STATUS;
+            case 6: return SortField.CREATION_DATE;
+            default: return null;
+        }
+    }
+
+    /**
+     * Comparador de una columna sobre las claves precalculadas de Content
+     * (CollationKey, milisegundos, id); nunca compara el texto formateado de la celda.
+     * Los empates se ordenan por id, igual que en los índices del controlador.
+     *
+     * @param column índice de la columna
+     * @param ascending true para orden ascendente
+     * @return comparador
+     */
+    public static Comparator<Content> comparatorFor(int column, boolean ascending) {
+        Comparator<Content> comparator;
+        switch (column) {
+            case 1: comparator = Comparator.comparing(Content::getTitleCollationKey); break;
+            case 2: comparator = Comparator.comparing(Content::getAuthorCollationKey); break;
+            case 3: comparator = Comparator.comparing(Content::getContentType); break;
+            case 4: comparator = Comparator.comparing(c -> c.getCategory().getNameCollationKey()); break;
+            case 5: comparator = Comparator.comparing(Content::getStatus); break;
+            case 6: comparator = Comparator.comparingLong(c -> c.getCreationDate().getTime()); break;
+            default: comparator = (a, b) -> 0; break;
+        }
+        comparator = comparator.thenComparing(Content::getId);
+        return ascending ? comparator : comparator.reversed();
+    }
+
+    /**
+     * Ordena una lista de contenidos por una columna.
+     * Tipo, Categoría y Estado tienen pocos valores distintos: se agrupan en O(n), se ordenan
+     * solo los valores distintos y cada grupo por id. Las demás columnas comparan claves precalculadas.
+     *
+     * @param contents contenidos a ordenar
+     * @param column índice de la columna
+     * @param ascending true para orden ascendente
+     * @return nueva lista ordenada
+     */
+    public static List<Content> sort(List<Content> contents, int column, boolean ascending) {
+        switch (column) {
+            case 3: return groupBy(contents, Content::getContentType, Comparator.naturalOrder(), ascending);
+            case 4: return groupBy(contents, Content::getCategory,
+                    Comparator.comparing(Category::getNameCollationKey), ascending);
+            case 5: return groupBy(contents, Content::getStatus, Comparator.naturalOrder(), ascending);
+            default:
+                List<Content> sorted = new ArrayList<>(contents);
+                sorted.sort(comparatorFor(column, ascending));
+                return sorted;
+        }
+    }
+
+    private static <K> List<Content> groupBy(List<Content> contents, Function<Content, K> group,
+                                             Comparator<K> keyOrder, boolean ascending) {
+        Map<K, List<Content>> buckets = new LinkedHashMap<>();
+        for (Content content : contents) {
+            buckets.computeIfAbsent(group.apply(content), k -> new ArrayList<>()).add(content);
+        }
+        List<K> groups = new ArrayList<>(buckets.keySet());
+        groups.sort(keyOrder);
+        if (!ascending) {
+            Collections.reverse(groups);
+        }
+        Comparator<Content> byId = Comparator.comparing(Content::getId);
+        List<Content> sorted = new ArrayList<>(contents.size());
+        // Dentro de cada grupo se desempata por id, como en las demás columnas
+        for (K value : groups) {
+            List<Content> bucket = buckets.get(value);
+            bucket.sort(ascending ? byId : byId.reversed());
+            sorted.addAll(bucket);
+        }
+        return sorted;
+    }
+
+    /**
+     * Filas actuales en el orden en que se muestran.
+     *
+     * @return vista no modificable de las filas
+     */
+    public List<Content> getContents() {
+        return Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * Obtiene el contenido de una fila.
+     *
+     * @param row índice de la fila
+     * @return contenido o null si la fila no existe
+     */
+    public Content getContentAt(int row) {
+        return row >= 0 && row < rows.size() ? rows.get(row) : null;
+    }
+
+    /**
+     * Agrega una fila al final, o en su posición si hay un orden definido.
+     *
+     * @param content contenido nuevo
+     */
+    public void addContent(Content content) {
+        if (order != null) {
+            insertSorted(content);
+            return;
+        }
+        rows.add(content);
+        if (indexedRows == rows.size() - 1) {
+            rowById.put(content.getId(), indexedRows++);
+        }
+        fireTableRowsInserted(rows.size() - 1, rows.size() - 1);
+    }
+
+    /**
+     * Reemplaza y repinta la fila de un contenido si está visible.
+     *
+     * @param content contenido actualizado
+     */
+    public void updateContent(Content content) {
+        int row = indexOf(content.getId());
+        if (row >= 0) {
+            rows.set(row, content);
+            if (order != null && !inOrder(row)) {
+                // Cambió la clave de orden: se mueve la fila a su nueva posición
+                rows.remove(row);
+                indexedRows = Math.min(indexedRows, row);
+                fireTableRowsDeleted(row, row);
+                insertSorted(content);
+                return;
+            }
+            fireTableRowsUpdated(row, row);
+        }
+    }
+
+    private void insertSorted(Content content) {
+        int position = Collections.binarySearch(rows, content, order);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        rows.add(position, content);
+        indexedRows = Math.min(indexedRows, position);
+        fireTableRowsInserted(position, position);
+    }
+
+    private boolean inOrder(int row) {
+        Content content = rows.get(row);
+        return (row == 0 || order.compare(rows.get(row - 1), content) <= 0)
+                && (row == rows.size() - 1 || order.compare(content, rows.get(row + 1)) <= 0);
+    }
+
+    /**
+     * Quita la fila de un contenido si está visible.
+     *
+     * @param contentId id del contenido
+     */
+    public void removeContent(String contentId) {
+        int row = indexOf(contentId);
+        if (row >= 0) {
+            rows.remove(row);
+            rowById.remove(contentId);
+            indexedRows = Math.min(indexedRows, row);
+            fireTableRowsDeleted(row, row);
+        }
+    }
+
+    // Las entradas por debajo de indexedRows son exactas; si el id no está entre ellas se
+    // indexan solo las filas desde indexedRows (las que se movieron desde el último cambio).
+    private int indexOf(String contentId) {
+        Integer row = rowById.get(contentId);
+        if ((row == null || row >= indexedRows) && indexedRows < rows.size()) {
+            for (int i = indexedRows; i < rows.size(); i++) {
+                rowById.put(rows.get(i).getId(), i);
+            }
+            indexedRows = rows.size();
+            row = rowById.get(contentId);
+        }
+        return row != null && row < indexedRows ? row : -1;
+    }
+}
@@ -109,7 +109,7 @@ public class LoginDialog extends JDialog {
 
         // Info de usuarios de prueba
         JLabel lblInfo = new JLabel("<html><center>Usuarios de prueba:<br>" +
-                "admin / admin123<br>editor / editor123</center></html>");
+                "admin / admin123<br>editor / editor123<br>revisor / revisor123</center></html>");
         lblInfo.setFont(new Font("Arial", Font.ITALIC, 10));
         lblInfo.setForeground(Color.GRAY);
         lblInfo.setHorizontalAlignment(SwingConstants.CENTER);
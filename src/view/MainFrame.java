@@ -6,6 +6,8 @@ import model.Image;
 
 import javax.swing.*;
 import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -47,6 +49,9 @@ public class MainFrame extends JFrame {
         contentController.setCurrentUser(currentUser);
         this.reportController = new ReportController(contentController);
 
+        // Publicaciones programadas (se conservan entre reinicios en cms-schedule.log)
+        startScheduler();
+
         // Inicializar categorías de prueba
         initializeCategories();
 
@@ -57,6 +62,19 @@ public class MainFrame extends JFrame {
         initialize();
     }
 
+    /**
+     * Inicia la programación de publicaciones.
+     * El archivo del diario se puede cambiar con -Dcms.schedule.file=ruta.
+     */
+    private void startScheduler() {
+        String file = System.getProperty("cms.schedule.file", "cms-schedule.log");
+        try {
+            contentController.startScheduler(Paths.get(file));
+        } catch (IOException e) {
+            System.err.println("No se pudo iniciar la programación de publicaciones: " + e.getMessage());
+        }
+    }
+
     /**
      * Inicializa categorías de prueba.
      */
@@ -67,6 +85,7 @@ public class MainFrame extends JFrame {
         categories.add(new Category("Física", "Contenidos sobre física"));
         categories.add(new Category("Diseño", "Contenidos sobre diseño gráfico"));
         categories.add(new Category("Música", "Contenidos sobre teoría musical"));
+        contentController.registerCategories(categories);
     }
 
     /**
@@ -138,6 +157,7 @@ public class MainFrame extends JFrame {
         // Crear paneles
         contentPanel = new ContentPanel(contentController, currentUser, categories);
         reportPanel = new ReportPanel(reportController);
+        contentController.addContentListener(reportPanel);
 
         mainPanel.add(contentPanel, "CONTENT");
         mainPanel.add(reportPanel, "REPORT");
@@ -182,9 +202,14 @@ public class MainFrame extends JFrame {
             showContentPanel();
             // El panel de contenidos maneja la creación
         });
-        itemNewContent.setEnabled(currentUser.getPermissions().contains("CREATE"));
+        itemNewContent.setEnabled(currentUser.hasPermission(Permission.CREATE));
         menuContent.add(itemNewContent);
 
+        JMenuItem itemIngest = new JMenuItem("Importar carpeta de medios...");
+        itemIngest.addActionListener(e -> showFolderIngestion());
+        itemIngest.setEnabled(currentUser.hasPermission(Permission.CREATE));
+        menuContent.add(itemIngest);
+
         // Menú Reportes
         JMenu menuReports = new JMenu("Reportes");
 
@@ -223,6 +248,18 @@ public class MainFrame extends JFrame {
         menuBar.add(menuUser);
         menuBar.add(menuHelp);
 
+        // Menú Desarrollo (solo con -Dcms.dev=true)
+        if (Boolean.getBoolean("cms.dev")) {
+            JMenu menuDev = new JMenu("Desarrollo");
+
+            JMenuItem itemGenerate = new JMenuItem("Generar catálogo sintético...");
+            itemGenerate.addActionListener(e -> showCatalogGenerator());
+            itemGenerate.setEnabled(currentUser.hasPermission(Permission.CREATE));
+            menuDev.add(itemGenerate);
+
+            menuBar.add(menuDev);
+        }
+
         setJMenuBar(menuBar);
     }
 
@@ -259,7 +296,126 @@ public class MainFrame extends JFrame {
      */
     private void showReportPanel() {
         cardLayout.show(mainPanel, "REPORT");
-        reportPanel.refreshReport();
+        reportPanel.refreshIfStale();
+    }
+
+    /**
+     * Pide los parámetros y genera un catálogo sintético en segundo plano.
+     * Los contenidos se construyen en paralelo y se agregan al controlador fuera del EDT;
+     * los paneles reciben los eventos con invokeLater. Solo se usan las categorías
+     * existentes (profundidad 1), así no aparecen subcategorías que la interfaz no muestra.
+     */
+    private void showCatalogGenerator() {
+        JTextField txtSize = new JTextField("10000", 10);
+        JTextField txtSeed = new JTextField("42", 10);
+        JTextField txtZipf = new JTextField("1.1", 10);
+
+        JPanel form = new JPanel(new GridLayout(0, 2, 5, 5));
+        form.add(new JLabel("Cantidad de contenidos:"));
+        form.add(txtSize);
+        form.add(new JLabel("Semilla:"));
+        form.add(txtSeed);
+        form.add(new JLabel("Exponente Zipf de etiquetas:"));
+        form.add(txtZipf);
+
+        int option = JOptionPane.showConfirmDialog(this, form, "Generar catálogo sintético",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        if (option != JOptionPane.OK_OPTION) {
+            return;
+        }
+
+        CatalogGenerator generator;
+        try {
+            CatalogGenerator.Config config = new CatalogGenerator.Config()
+                    .setSize(Integer.parseInt(txtSize.getText().trim()))
+                    .setSeed(Long.parseLong(txtSeed.getText().trim()))
+                    .setCategoryDepth(1)
+                    .setTagZipfExponent(Double.parseDouble(txtZipf.getText().trim()));
+            generator = new CatalogGenerator(config, categories);
+        } catch (IllegalArgumentException ex) {
+            JOptionPane.showMessageDialog(this, "Parámetros inválidos: " + ex.getMessage(),
+                    "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        statusLabel.setText(" Generando " + generator.getConfig().getSize() + " contenidos...");
+        long start = System.nanoTime();
+        new SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() {
+                List<Content> contents = generator.generateContents();
+                generator.addTo(contentController, contents);
+                return contents.size();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    int count = get();
+                    long millis = (System.nanoTime() - start) / 1_000_000;
+                    statusLabel.setText(" Usuario: " + currentUser.getUsername() +
+                            " | Rol: " + currentUser.getRole() +
+                            " | " + count + " contenidos generados en " + millis + " ms");
+                } catch (Exception ex) {
+                    statusLabel.setText(" Usuario: " + currentUser.getUsername() +
+                            " | Rol: " + currentUser.getRole());
+                    JOptionPane.showMessageDialog(MainFrame.this,
+                            "No se pudo generar el catálogo: " + ex.getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Importa en segundo plano las imágenes y videos de una carpeta.
+     * Las subcarpetas de primer nivel con el nombre de una categoría se asignan a ella;
+     * se omiten los archivos ya importados (según cms-ingest.idx) cuyo contenido sigue en el catálogo.
+     */
+    private void showFolderIngestion() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Importar carpeta de medios");
+        chooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        FolderIngestionJob job = new FolderIngestionJob(contentController,
+                chooser.getSelectedFile().toPath(),
+                Paths.get(System.getProperty("cms.ingest.index", "cms-ingest.idx")),
+                categories.get(0))
+                .addFolderRules(categories)
+                .setAuthor(currentUser.getUsername());
+
+        statusLabel.setText(" Importando medios...");
+        new SwingWorker<FolderIngestionJob.Progress, FolderIngestionJob.Progress>() {
+            @Override
+            protected FolderIngestionJob.Progress doInBackground() throws IOException {
+                job.setProgressListener(this::publish);
+                return job.run();
+            }
+
+            @Override
+            protected void process(List<FolderIngestionJob.Progress> chunks) {
+                statusLabel.setText(" Importando medios: " + chunks.get(chunks.size() - 1));
+            }
+
+            @Override
+            protected void done() {
+                statusLabel.setText(" Usuario: " + currentUser.getUsername() +
+                        " | Rol: " + currentUser.getRole());
+                try {
+                    FolderIngestionJob.Progress result = get();
+                    JOptionPane.showMessageDialog(MainFrame.this,
+                            "Importación terminada en " + result.getElapsedMillis() + " ms:\n" + result,
+                            "Importar carpeta de medios", JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception ex) {
+                    JOptionPane.showMessageDialog(MainFrame.this,
+                            "No se pudo importar la carpeta: " + ex.getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
     }
 
     /**
@@ -273,6 +429,7 @@ public class MainFrame extends JFrame {
 
         if (option == JOptionPane.YES_OPTION) {
             userController.logout();
+            contentController.stopScheduler();
             dispose();
 
             LoginDialog loginDialog = new LoginDialog(null, userController);
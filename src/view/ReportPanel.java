@@ -1,10 +1,27 @@
 package view;
 
+import controller.ActivityCounters;
+import controller.ContentCube;
+import controller.ContentEvent;
+import controller.ContentListener;
 import controller.ReportController;
 import model.*;
 import javax.swing.*;
 import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 /**
  * Panel para visualizar reportes y estadísticas del sistema.
@@ -13,13 +30,28 @@ import java.util.Map;
  * @author Franco Paiz
  * @version 1.0
  */
-public class ReportPanel extends BasePanel {
+public class ReportPanel extends BasePanel implements ContentListener {
+    // Períodos de los reportes por fecha
+    private static final int RECENT_PUBLISHED_DAYS = 30;
+    private static final int STALE_DRAFT_DAYS = 90;
+    // Cantidad máxima de contenidos listados en los reportes por fecha
+    private static final int DATE_REPORT_LIMIT = 50;
+    // Colores de cada actividad en la gráfica (creados, publicados, editados)
+    private static final Color[] ACTIVITY_COLORS = {
+            new Color(52, 152, 219),
+            new Color(46, 204, 113),
+            new Color(241, 196, 15)
+    };
+
     private ReportController reportController;
     private JTextArea txtReport;
     private JPanel chartPanel;
     private JButton btnGenerate;
     private JButton btnExport;
     private JComboBox<String> cmbReportType;
+    private volatile boolean stale;
+    // Actividad semanal graficada, o null si el reporte actual no es de actividad
+    private List<SortedMap<LocalDate, Long>> weeklyActivity;
 
     /**
      * Constructor del panel de reportes.
@@ -66,7 +98,12 @@ public class ReportPanel extends BasePanel {
                 "Resumen General",
                 "Por Categoría",
                 "Por Autor",
-                "Contenidos Recientes"
+                "Contenidos Recientes",
+                "Publicados Recientemente",
+                "Borradores Abandonados",
+                "Actividad del Último Año",
+                "Categoría por Tipo y Estado",
+                "Analítica Aproximada"
         };
         cmbReportType = new JComboBox<>(reportTypes);
         panel.add(cmbReportType);
@@ -134,6 +171,7 @@ public class ReportPanel extends BasePanel {
     private void generateReport() {
         String reportType = (String) cmbReportType.getSelectedItem();
         StringBuilder reportText = new StringBuilder();
+        weeklyActivity = null;
 
         if ("Resumen General".equals(reportType)) {
             Report report = reportController.generateContentReport();
@@ -168,10 +206,237 @@ public class ReportPanel extends BasePanel {
                         .append(" | Estado: ").append(content.getStatus())
                         .append("\n\n");
             }
+        } else if ("Publicados Recientemente".equals(reportType)) {
+            List<Content> published = reportController.getRecentlyPublished(RECENT_PUBLISHED_DAYS);
+            reportText.append("=== PUBLICADOS EN LOS ÚLTIMOS ").append(RECENT_PUBLISHED_DAYS)
+                    .append(" DÍAS: ").append(published.size()).append(" ===\n\n");
+            appendDatedList(reportText, published, true);
+        } else if ("Borradores Abandonados".equals(reportType)) {
+            List<Content> drafts = reportController.getStaleDrafts(STALE_DRAFT_DAYS);
+            reportText.append("=== BORRADORES SIN CAMBIOS HACE MÁS DE ").append(STALE_DRAFT_DAYS)
+                    .append(" DÍAS: ").append(drafts.size()).append(" ===\n\n");
+            appendDatedList(reportText, drafts, false);
+        } else if ("Actividad del Último Año".equals(reportType)) {
+            appendActivityReport(reportText);
+        } else if ("Categoría por Tipo y Estado".equals(reportType)) {
+            appendCategoryCrossTab(reportText);
+        } else if ("Analítica Aproximada".equals(reportType)) {
+            appendApproximateAnalytics(reportText);
         }
 
         txtReport.setText(reportText.toString());
         chartPanel.repaint();
+        stale = false;
+    }
+
+    /**
+     * Agrega al reporte una lista de contenidos con su fecha de publicación o de última modificación.
+     *
+     * @param reportText texto del reporte
+     * @param contents contenidos ya ordenados
+     * @param publishDate true para mostrar la fecha de publicación
+     */
+    private void appendDatedList(StringBuilder reportText, List<Content> contents, boolean publishDate) {
+        SimpleDateFormat format = new SimpleDateFormat("dd/MM/yyyy HH:mm");
+        int shown = Math.min(contents.size(), DATE_REPORT_LIMIT);
+        for (int i = 0; i < shown; i++) {
+            Content content = contents.get(i);
+            Date date = publishDate ? content.getPublishDate() : content.getLastModified();
+            reportText.append(i + 1).append(". ")
+                    .append(content.getTitle())
+                    .append(" (").append(content.getContentType()).append(")\n")
+                    .append("   Autor: ").append(content.getAuthor())
+                    .append(publishDate ? " | Publicado: " : " | Modificado: ")
+                    .append(format.format(date))
+                    .append("\n\n");
+        }
+        if (contents.size() > shown) {
+            reportText.append("... y ").append(contents.size() - shown).append(" más\n");
+        }
+    }
+
+    /**
+     * Agrega la actividad de los últimos doce meses: totales por mes y desglose por tipo y
+     * categoría. Lee los contadores por intervalo, no recorre los contenidos.
+     *
+     * @param reportText texto del reporte
+     */
+    private void appendActivityReport(StringBuilder reportText) {
+        ActivityCounters.Activity[] activities = ActivityCounters.Activity.values();
+        LocalDate to = LocalDate.now().plusDays(1);
+        LocalDate from = to.minusYears(1);
+
+        List<SortedMap<LocalDate, Long>> monthly = new ArrayList<>();
+        weeklyActivity = new ArrayList<>();
+        for (ActivityCounters.Activity activity : activities) {
+            monthly.add(reportController.getActivityHistogram(ActivityCounters.Granularity.MONTH,
+                    activity, from, to, null, null));
+            weeklyActivity.add(reportController.getActivityHistogram(ActivityCounters.Granularity.WEEK,
+                    activity, from, to, null, null));
+        }
+
+        DateTimeFormatter monthFormat = DateTimeFormatter.ofPattern("MM/yyyy");
+        reportText.append("=== ACTIVIDAD DEL ÚLTIMO AÑO ===\n\n");
+        reportText.append(String.format("%-8s", "Mes"));
+        for (ActivityCounters.Activity activity : activities) {
+            reportText.append(String.format("%12s", activity.getLabel()));
+        }
+        reportText.append("\n");
+        for (LocalDate month : monthly.get(0).keySet()) {
+            reportText.append(String.format("%-8s", monthFormat.format(month)));
+            for (SortedMap<LocalDate, Long> series : monthly) {
+                reportText.append(String.format("%12d", series.get(month)));
+            }
+            reportText.append("\n");
+        }
+
+        for (ActivityCounters.Activity activity : activities) {
+            reportText.append("\n").append(activity.getLabel()).append(" por tipo:\n");
+            for (Map.Entry<String, Long> entry : reportController.getActivityByType(activity, from, to).entrySet()) {
+                reportText.append("  ").append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
+            }
+            reportText.append(activity.getLabel()).append(" por categoría:\n");
+            for (Map.Entry<Category, Long> entry : reportController.getActivityByCategory(activity, from, to).entrySet()) {
+                String name = entry.getKey() != null ? entry.getKey().getName() : "Sin categoría";
+                reportText.append("  ").append(name).append(": ").append(entry.getValue()).append("\n");
+            }
+        }
+    }
+
+    /**
+     * Agrega una tabla de categorías por tipo de contenido con la cantidad de publicados.
+     * Las cantidades salen de celdas ya agregadas del cubo de contenidos.
+     *
+     * @param reportText texto del reporte
+     */
+    private void appendCategoryCrossTab(StringBuilder reportText) {
+        List<ContentCube.Dimension> groupBy = Arrays.asList(
+                ContentCube.Dimension.CATEGORY, ContentCube.Dimension.TYPE, ContentCube.Dimension.STATUS);
+        Map<List<Object>, Long> counts = reportController.getGroupedCounts(groupBy, Collections.emptyMap());
+
+        // categoría -> tipo -> {total, publicados}
+        Map<String, Map<String, long[]>> table = new TreeMap<>();
+        Set<String> types = new TreeSet<>();
+        for (Map.Entry<List<Object>, Long> entry : counts.entrySet()) {
+            Category category = (Category) entry.getKey().get(0);
+            String type = (String) entry.getKey().get(1);
+            boolean published = "PUBLISHED".equals(entry.getKey().get(2));
+            String name = category != null ? category.getName() : "Sin categoría";
+            long[] cell = table.computeIfAbsent(name, k -> new TreeMap<>()).computeIfAbsent(type, k -> new long[2]);
+            cell[0] += entry.getValue();
+            if (published) {
+                cell[1] += entry.getValue();
+            }
+            types.add(type);
+        }
+
+        reportText.append("=== CATEGORÍA POR TIPO (publicados/total) ===\n\n");
+        reportText.append(String.format("%-20s", "Categoría"));
+        for (String type : types) {
+            reportText.append(String.format("%14s", type));
+        }
+        reportText.append("\n");
+        for (Map.Entry<String, Map<String, long[]>> row : table.entrySet()) {
+            reportText.append(String.format("%-20s", row.getKey()));
+            for (String type : types) {
+                long[] cell = row.getValue().getOrDefault(type, new long[2]);
+                reportText.append(String.format("%14s", cell[1] + "/" + cell[0]));
+            }
+            reportText.append("\n");
+        }
+    }
+
+    /**
+     * Agrega cantidades de valores distintos y distribuciones estimadas con sketches.
+     *
+     * @param reportText texto del reporte
+     */
+    private void appendApproximateAnalytics(StringBuilder reportText) {
+        double[] quantiles = {0.5, 0.9, 0.99};
+        reportText.append("=== ANALÍTICA APROXIMADA ===\n");
+        reportText.append("(autores y etiquetas: ±1.6% típico; cuantiles: ±1%)\n\n");
+
+        reportText.append("Autores distintos: ~").append(reportController.estimateDistinctAuthors()).append("\n");
+        for (Map.Entry<Category, Long> entry : reportController.estimateDistinctAuthorsByCategory().entrySet()) {
+            String name = entry.getKey() != null ? entry.getKey().getName() : "Sin categoría";
+            reportText.append("  ").append(name).append(": ~").append(entry.getValue()).append("\n");
+        }
+
+        reportText.append("\nEtiquetas distintas por mes de creación:\n");
+        DateTimeFormatter monthFormat = DateTimeFormatter.ofPattern("MM/yyyy");
+        for (Map.Entry<YearMonth, Long> entry : reportController.estimateDistinctTagsByMonth().entrySet()) {
+            reportText.append("  ").append(monthFormat.format(entry.getKey()))
+                    .append(": ~").append(entry.getValue()).append("\n");
+        }
+
+        appendQuantiles(reportText, "Palabras por artículo",
+                reportController.estimateWordCountQuantiles(quantiles), quantiles);
+        appendQuantiles(reportText, "Duración de videos (segundos)",
+                reportController.estimateVideoDurationQuantiles(quantiles), quantiles);
+    }
+
+    private void appendQuantiles(StringBuilder reportText, String title, double[] values, double[] quantiles) {
+        reportText.append("\n").append(title).append(":\n");
+        for (int i = 0; i < quantiles.length; i++) {
+            reportText.append(String.format("  p%d: %s%n", Math.round(quantiles[i] * 100),
+                    Double.isNaN(values[i]) ? "-" : String.valueOf(Math.round(values[i]))));
+        }
+    }
+
+    /**
+     * Dibuja la actividad semanal como barras apiladas (creados, publicados, editados).
+     */
+    private void drawActivityChart(Graphics2D g2d) {
+        int width = chartPanel.getWidth();
+        int height = chartPanel.getHeight();
+        int margin = 50;
+        List<LocalDate> weeks = new ArrayList<>(weeklyActivity.get(0).keySet());
+
+        g2d.setFont(titleFont);
+        g2d.setColor(Color.BLACK);
+        g2d.drawString("Actividad semanal", margin, 30);
+
+        long maxValue = 1;
+        for (LocalDate week : weeks) {
+            long total = 0;
+            for (SortedMap<LocalDate, Long> series : weeklyActivity) {
+                total += series.get(week);
+            }
+            maxValue = Math.max(maxValue, total);
+        }
+
+        g2d.setColor(Color.GRAY);
+        g2d.drawLine(margin, height - margin, width - margin, height - margin);
+        g2d.drawLine(margin, margin, margin, height - margin);
+
+        double slot = (double) (width - 2 * margin) / Math.max(1, weeks.size());
+        int barWidth = Math.max(1, (int) slot - 1);
+        int chartHeight = height - 2 * margin;
+        for (int i = 0; i < weeks.size(); i++) {
+            int x = margin + 1 + (int) (i * slot);
+            int y = height - margin;
+            for (int a = 0; a < weeklyActivity.size(); a++) {
+                int barHeight = (int) ((double) weeklyActivity.get(a).get(weeks.get(i)) / maxValue * chartHeight * 0.9);
+                y -= barHeight;
+                g2d.setColor(ACTIVITY_COLORS[a]);
+                g2d.fillRect(x, y, barWidth, barHeight);
+            }
+        }
+
+        // Leyenda
+        g2d.setFont(defaultFont);
+        int x = margin;
+        ActivityCounters.Activity[] activities = ActivityCounters.Activity.values();
+        for (int a = 0; a < activities.length; a++) {
+            g2d.setColor(ACTIVITY_COLORS[a]);
+            g2d.fillRect(x, height - margin + 12, 10, 10);
+            g2d.setColor(Color.BLACK);
+            g2d.drawString(activities[a].getLabel(), x + 14, height - margin + 22);
+            x += 100;
+        }
+        g2d.setColor(Color.GRAY);
+        g2d.drawString("0", margin - 20, height - margin + 5);
+        g2d.drawString(String.valueOf(maxValue), margin - 30, margin + 10);
     }
 
     /**
@@ -182,6 +447,11 @@ public class ReportPanel extends BasePanel {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
                 RenderingHints.VALUE_ANTIALIAS_ON);
 
+        if (weeklyActivity != null) {
+            drawActivityChart(g2d);
+            return;
+        }
+
         Map<String, Integer> stats = reportController.getStatistics();
 
         int width = chartPanel.getWidth();
@@ -282,4 +552,23 @@ public class ReportPanel extends BasePanel {
     public void refreshReport() {
         generateReport();
     }
+
+    /**
+     * Regenera el reporte solo si hubo cambios desde la última generación.
+     */
+    public void refreshIfStale() {
+        if (stale) {
+            generateReport();
+        }
+    }
+
+    /**
+     * Marca el reporte como desactualizado cuando cambian los contenidos.
+     *
+     * @param events eventos del controlador de contenidos
+     */
+    @Override
+    public void onContentChanged(List<ContentEvent> events) {
+        stale = true;
+    }
 }
\ No newline at end of file